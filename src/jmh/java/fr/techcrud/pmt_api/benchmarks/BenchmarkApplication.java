@@ -0,0 +1,35 @@
+package fr.techcrud.pmt_api.benchmarks;
+
+import fr.techcrud.pmt_api.PmtApiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Application complète sur le profil {@code test} (H2 en mémoire, migrations Flyway) pour les benchmarks
+ * qui passent par JPA. Le cache de second niveau est coupé : chaque lecture mesurée va jusqu'à la base,
+ * comme une première lecture ou une lecture sur un autre nœud.
+ * <p>
+ * La pile Spring / Hibernate met une dizaine de secondes à être compilée par le JIT : ces benchmarks ont
+ * un préchauffage plus long que les micro-benchmarks.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "--spring.jpa.properties.hibernate.cache.use_query_cache=false"));
+        args.addAll(List.of(extraArgs));
+        return new SpringApplicationBuilder(PmtApiApplication.class)
+                .profiles("test")
+                .logStartupInfo(false)
+                .run(args.toArray(String[]::new));
+    }
+}
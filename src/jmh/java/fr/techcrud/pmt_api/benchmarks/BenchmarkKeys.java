@@ -0,0 +1,22 @@
+package fr.techcrud.pmt_api.benchmarks;
+
+import fr.techcrud.pmt_api.utils.JwtKeyRing;
+import fr.techcrud.pmt_api.utils.JwtUtil;
+
+import java.util.Base64;
+
+/**
+ * Trousseau fixe pour les benchmarks : même clé d'un run à l'autre, pas de fichier ni de clé aléatoire.
+ */
+final class BenchmarkKeys {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("pmt-api-benchmark-secret-key-0123456789".getBytes());
+
+    private BenchmarkKeys() {
+    }
+
+    static JwtUtil jwtUtil() {
+        return new JwtUtil(new JwtKeyRing("bench:" + SECRET, "", "bench"));
+    }
+}
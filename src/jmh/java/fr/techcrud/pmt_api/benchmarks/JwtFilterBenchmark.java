@@ -0,0 +1,79 @@
+package fr.techcrud.pmt_api.benchmarks;
+
+import fr.techcrud.pmt_api.security.CustomAuthenticationEntryPoint;
+import fr.techcrud.pmt_api.security.SecurityConfig;
+import fr.techcrud.pmt_api.security.VerifiedTokenCache;
+import fr.techcrud.pmt_api.utils.JwtUtil;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Passage complet d'une requête authentifiée dans le jwtFilter().
+ * <p>
+ * {@code cachedToken} mesure le cas courant (token déjà vérifié), {@code uncachedToken} force une
+ * vérification de signature à chaque appel en alternant deux tokens dans un cache d'une seule entrée.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+    private OncePerRequestFilter cachedFilter;
+    private OncePerRequestFilter uncachedFilter;
+    private String token;
+    private String otherToken;
+    private boolean flip;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = BenchmarkKeys.jwtUtil();
+        CustomAuthenticationEntryPoint entryPoint = new CustomAuthenticationEntryPoint();
+        cachedFilter = new SecurityConfig(entryPoint, new VerifiedTokenCache(jwtUtil, 10_000)).jwtFilter();
+        uncachedFilter = new SecurityConfig(entryPoint, new VerifiedTokenCache(jwtUtil, 1)).jwtFilter();
+        token = jwtUtil.generateToken(UUID.randomUUID(), "jane.doe@example.com", "USER");
+        otherToken = jwtUtil.generateToken(UUID.randomUUID(), "john.doe@example.com", "USER");
+    }
+
+    @Benchmark
+    public Object cachedToken() throws ServletException, IOException {
+        return run(cachedFilter, token);
+    }
+
+    @Benchmark
+    public Object uncachedToken() throws ServletException, IOException {
+        flip = !flip;
+        return run(uncachedFilter, flip ? token : otherToken);
+    }
+
+    private Object run(OncePerRequestFilter filter, String bearer) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+        request.addHeader("Authorization", "Bearer " + bearer);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package fr.techcrud.pmt_api.benchmarks;
+
+import fr.techcrud.pmt_api.dto.AuthResultDto;
+import fr.techcrud.pmt_api.dto.UserCredentialsDto;
+import fr.techcrud.pmt_api.dto.UserResponseDto;
+import fr.techcrud.pmt_api.models.User;
+import fr.techcrud.pmt_api.repositories.userRepository;
+import fr.techcrud.pmt_api.utils.UserResponseSerializer;
+import fr.techcrud.pmt_api.utils.Uuids;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lectures en base d'un login réussi, hors BCrypt et génération du token (identiques dans les deux cas).
+ * <p>
+ * {@code credentialsProjection} est le chemin actuel : une requête vers UserCredentialsDto, qui sert à la fois
+ * à vérifier le mot de passe et à construire la réponse. {@code entityTwice} rejoue l'ancien chemin : l'entité
+ * User chargée par AuthService, puis de nouveau par le contrôleur pour la réponse. Le nombre de requêtes SQL
+ * par login est affiché en fin de run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoginLookupBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private userRepository userRepository;
+    private UserResponseSerializer serializer;
+    private Statistics statistics;
+    private String email;
+    private long logins;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        userRepository = context.getBean(userRepository.class);
+        serializer = context.getBean(UserResponseSerializer.class);
+        email = "jane.doe@example.com";
+        context.getBean(JdbcTemplate.class).update("INSERT INTO user (id, email, first_name, last_name, password, role) "
+                + "VALUES (?, ?, 'Jane', 'Doe', ?, 'USER')", Uuids.toBytes(Uuids.timeOrdered()), email,
+                "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z6f0rYJ9b5U4u5q2Jx1Yx1yK");
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Benchmark
+    public AuthResultDto credentialsProjection() {
+        logins++;
+        UserCredentialsDto credentials = userRepository.findCredentialsByEmail(email).orElseThrow();
+        return AuthResultDto.of("token", credentials);
+    }
+
+    @Benchmark
+    public Map<String, Object> entityTwice() {
+        logins++;
+        User checked = userRepository.findByEmail(email).orElseThrow();
+        User reloaded = userRepository.findByEmail(checked.getEmail()).orElseThrow();
+        UserResponseDto response = serializer.toResponse(reloaded);
+        return Map.of("token", "token", "user", response);
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("%n%.2f SQL statements per login%n", (double) statistics.getPrepareStatementCount() / logins);
+        context.close();
+    }
+}
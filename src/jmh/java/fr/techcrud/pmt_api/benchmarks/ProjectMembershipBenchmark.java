@@ -0,0 +1,96 @@
+package fr.techcrud.pmt_api.benchmarks;
+
+import fr.techcrud.pmt_api.enums.ProjectRole;
+import fr.techcrud.pmt_api.load.SyntheticDataGenerator;
+import fr.techcrud.pmt_api.models.ProjectMember;
+import fr.techcrud.pmt_api.repositories.ProjectMemberRepository;
+import fr.techcrud.pmt_api.security.ProjectMembershipIndex;
+import fr.techcrud.pmt_api.utils.Uuids;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vérification d'un rôle de projet, pour des couples (membre, projet) du jeu de données synthétique :
+ * <ul>
+ *   <li>{@code indexHit} : entrée déjà chargée dans le {@link ProjectMembershipIndex}, cas courant ;</li>
+ *   <li>{@code indexLoad} : entrée invalidée juste avant, l'index recharge les rôles de l'utilisateur
+ *       (ses adhésions et les projets dont il est l'auteur) ;</li>
+ *   <li>{@code queryPerRequest} : une requête {@code findMember} par vérification, sans index.</li>
+ * </ul>
+ * Cache de second niveau coupé : les requêtes vont jusqu'à H2.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectMembershipBenchmark {
+
+    private record Membership(UUID userId, UUID projectId) {
+    }
+
+    private ConfigurableApplicationContext context;
+    private ProjectMembershipIndex membershipIndex;
+    private ProjectMemberRepository projectMemberRepository;
+    private List<Membership> memberships;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        new SyntheticDataGenerator(jdbcTemplate)
+                .generate(new SyntheticDataGenerator.Size(2_000, 1_000, 5, 0, 0), "{noop}unused", 0);
+        memberships = jdbcTemplate.query("SELECT user_id, project_id FROM project_member",
+                (rs, row) -> new Membership(Uuids.fromBytes(rs.getBytes(1)), Uuids.fromBytes(rs.getBytes(2))));
+        membershipIndex = context.getBean(ProjectMembershipIndex.class);
+        projectMemberRepository = context.getBean(ProjectMemberRepository.class);
+        memberships.forEach(m -> membershipIndex.roleOf(m.userId(), m.projectId()));
+    }
+
+    @Benchmark
+    public ProjectRole indexHit() {
+        Membership membership = nextMembership();
+        return membershipIndex.roleOf(membership.userId(), membership.projectId());
+    }
+
+    @Benchmark
+    public ProjectRole indexLoad() {
+        Membership membership = nextMembership();
+        membershipIndex.invalidate(membership.userId());
+        return membershipIndex.roleOf(membership.userId(), membership.projectId());
+    }
+
+    @Benchmark
+    public ProjectRole queryPerRequest() {
+        Membership membership = nextMembership();
+        return projectMemberRepository.findMember(membership.projectId(), membership.userId())
+                .map(ProjectMember::getRole)
+                .orElse(null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private Membership nextMembership() {
+        return memberships.get(next++ % memberships.size());
+    }
+}
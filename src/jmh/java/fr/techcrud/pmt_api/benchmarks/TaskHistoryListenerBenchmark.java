@@ -0,0 +1,107 @@
+package fr.techcrud.pmt_api.benchmarks;
+
+import fr.techcrud.pmt_api.enums.TaskStatus;
+import fr.techcrud.pmt_api.load.SyntheticDataGenerator;
+import fr.techcrud.pmt_api.models.Task;
+import fr.techcrud.pmt_api.services.TaskHistoryListener;
+import fr.techcrud.pmt_api.utils.Uuids;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Surcoût du {@link TaskHistoryListener} sur une mise à jour de tâche : une transaction charge la tâche,
+ * change son statut et commite, avec le listener enregistré ({@code on}) ou retiré des groupes POST_INSERT,
+ * POST_UPDATE et POST_DELETE d'Hibernate ({@code off}). Les autres listeners (index de recherche) restent
+ * en place dans les deux cas ; l'écriture des lignes d'historique, faite par le TaskHistoryBuffer sur son
+ * propre thread, n'est pas dans le temps mesuré.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskHistoryListenerBenchmark {
+
+    @Param({ "on", "off" })
+    public String listener;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private List<UUID> taskIds;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        new SyntheticDataGenerator(jdbcTemplate)
+                .generate(new SyntheticDataGenerator.Size(200, 20, 3, 50, 0), "{noop}unused", 0);
+        taskIds = jdbcTemplate.query("SELECT id FROM task", (rs, row) -> Uuids.fromBytes(rs.getBytes(1)));
+        EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        if ("off".equals(listener)) {
+            EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getServiceRegistry()
+                    .requireService(EventListenerRegistry.class);
+            withoutHistoryListener(registry.getEventListenerGroup(EventType.POST_INSERT));
+            withoutHistoryListener(registry.getEventListenerGroup(EventType.POST_UPDATE));
+            withoutHistoryListener(registry.getEventListenerGroup(EventType.POST_DELETE));
+        }
+    }
+
+    @Benchmark
+    public TaskStatus updateStatus() {
+        UUID taskId = taskIds.get(next++ % taskIds.size());
+        return transactionTemplate.execute(status -> {
+            Task task = entityManager.find(Task.class, taskId);
+            task.setStatus(task.getStatus() == TaskStatus.TODO ? TaskStatus.IN_PROGRESS : TaskStatus.TODO);
+            entityManager.flush();
+            return task.getStatus();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // Le groupe n'a pas de retrait unitaire : on le reconstruit sans le listener d'historique
+    private static <T> void withoutHistoryListener(EventListenerGroup<T> group) {
+        List<T> kept = new ArrayList<>();
+        for (T registered : group.listeners()) {
+            if (!(registered instanceof TaskHistoryListener)) {
+                kept.add(registered);
+            }
+        }
+        group.clearListeners();
+        kept.forEach(group::appendListener);
+    }
+}
@@ -0,0 +1,64 @@
+package fr.techcrud.pmt_api.benchmarks;
+
+import fr.techcrud.pmt_api.dto.UserResponseDto;
+import fr.techcrud.pmt_api.models.User;
+import fr.techcrud.pmt_api.utils.UserResponseSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion entité → DTO puis écriture JSON, le chemin de GET /api/v1/users/me.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserSerializationBenchmark {
+
+    private final UserResponseSerializer serializer = new UserResponseSerializer();
+    private final JsonMapper mapper = JsonMapper.builder().build();
+
+    private User user;
+    private UserResponseDto dto;
+
+    @Setup
+    public void setUp() {
+        user = new User();
+        user.setId(UUID.fromString("0190f5a2-7c3e-7a10-9c4e-3f2b1a0d9e8f"));
+        user.setEmail("jane.doe@example.com");
+        user.setFirstName("Jane");
+        user.setLastName("Doe");
+        user.setRole("USER");
+        user.setVersion(3L);
+        dto = serializer.toResponse(user);
+    }
+
+    @Benchmark
+    public UserResponseDto toResponse() {
+        return serializer.toResponse(user);
+    }
+
+    @Benchmark
+    public byte[] writeJson() {
+        return mapper.writeValueAsBytes(dto);
+    }
+
+    @Benchmark
+    public byte[] toResponseAndWriteJson() {
+        return mapper.writeValueAsBytes(serializer.toResponse(user));
+    }
+}
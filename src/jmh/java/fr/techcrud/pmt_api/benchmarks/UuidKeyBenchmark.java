@@ -0,0 +1,110 @@
+package fr.techcrud.pmt_api.benchmarks;
+
+import fr.techcrud.pmt_api.utils.Uuids;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clé primaire CHAR(36) en UUID v4 (schéma d'origine) contre BINARY(16) en UUID v7 (schéma actuel) :
+ * insertion dans un index déjà peuplé et lecture par clé, en JDBC direct sur H2.
+ * <p>
+ * H2 (MVStore) n'est pas InnoDB : l'ordre de grandeur de l'écart sur les pages d'index et le buffer pool
+ * se mesure sur MySQL. Le benchmark montre le coût propre de la clé (taille, comparaisons, localité
+ * des insertions) ; la place occupée par la table (base fichier sous {@code target/uuid-benchmark})
+ * est affichée en fin de run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UuidKeyBenchmark {
+
+    @Param({ "char36-v4", "binary16-v7" })
+    public String key;
+
+    @Param({ "200000" })
+    public int rows;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private PreparedStatement lookup;
+    private Object[] existing;
+
+    @Setup
+    public void setUp() throws SQLException {
+        // Base fichier : DISK_SPACE_USED ne compte rien en mémoire
+        connection = DriverManager.getConnection("jdbc:h2:file:./target/uuid-benchmark/" + key + ";MODE=MySQL",
+                "sa", "");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS item");
+            ddl.execute("CREATE TABLE item (id " + (binary() ? "BINARY(16)" : "CHAR(36)")
+                    + " PRIMARY KEY, name VARCHAR(64) NOT NULL)");
+        }
+        insert = connection.prepareStatement("INSERT INTO item (id, name) VALUES (?, 'benchmark')");
+        lookup = connection.prepareStatement("SELECT name FROM item WHERE id = ?");
+        existing = new Object[rows];
+        for (int i = 0; i < rows; i++) {
+            existing[i] = nextKey();
+            insert.setObject(1, existing[i]);
+            insert.addBatch();
+            if (i % 1_000 == 999) {
+                insert.executeBatch();
+            }
+        }
+        insert.executeBatch();
+    }
+
+    @Benchmark
+    public int insert() throws SQLException {
+        insert.setObject(1, nextKey());
+        return insert.executeUpdate();
+    }
+
+    @Benchmark
+    public String lookup() throws SQLException {
+        lookup.setObject(1, existing[ThreadLocalRandom.current().nextInt(rows)]);
+        try (ResultSet rs = lookup.executeQuery()) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement query = connection.createStatement();
+                ResultSet rs = query.executeQuery("SELECT COUNT(*), DISK_SPACE_USED('ITEM') FROM item")) {
+            rs.next();
+            System.out.printf("%n%s: %d rows, %d KiB%n", key, rs.getLong(1), rs.getLong(2) / 1024);
+        }
+        connection.close();
+    }
+
+    private boolean binary() {
+        return key.startsWith("binary16");
+    }
+
+    private Object nextKey() {
+        return binary() ? Uuids.toBytes(Uuids.timeOrdered()) : UUID.randomUUID().toString();
+    }
+}
@@ -1,5 +1,6 @@
 package fr.techcrud.pmt_api.controllers;
 
+import fr.techcrud.pmt_api.dto.AuthResultDto;
 import fr.techcrud.pmt_api.dto.UserResponseDto;
 import fr.techcrud.pmt_api.exceptions.BadRequestException;
 import fr.techcrud.pmt_api.models.User;
@@ -40,23 +41,12 @@ public class AuthController {
         String email = loginRequest.getEmail();
         String password = loginRequest.getPassword();
 
-        String token = authService.login(email, password);
-        if (token == null) {
+        AuthResultDto result = authService.login(email, password);
+        if (result == null) {
             return ResponseEntity.status(401).body(Map.of("success", false, "message", "Invalid email or password"));
         }
-        
-        User user = userService.findByEmail(email);
 
-        return ResponseEntity.ok(Map.of("success", true, "message", "Authentication successful", "data", Map.of(
-                "token", token,
-                "id", user.getId(),
-                "email", user.getEmail(),
-                "firstName", user.getFirstName(),
-                "lastName", user.getLastName(),
-                "role", user.getRole(),
-                "phoneNumber", user.getPhoneNumber()
-
-        )));
+        return ResponseEntity.ok(Map.of("success", true, "message", "Authentication successful", "data", result));
     }
 
     @PostMapping("/register")
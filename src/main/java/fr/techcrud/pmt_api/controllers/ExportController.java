@@ -0,0 +1,58 @@
+package fr.techcrud.pmt_api.controllers;
+
+import fr.techcrud.pmt_api.exceptions.RessourceNotFoundException;
+import fr.techcrud.pmt_api.services.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/v1/exports")
+@Tag(name = "Exports", description = "Streaming NDJSON exports of the database tables")
+@SecurityRequirement(name = "bearerAuth")
+public class ExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/{dataset}")
+    @Operation(summary = "Export a table", description = "Stream users, projects, tasks or task-history as "
+            + "newline-delimited JSON. Gzip-encoded when the client sends Accept-Encoding: gzip.")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable String dataset,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (!exportService.supports(dataset)) {
+            throw new RessourceNotFoundException("Unknown export: " + dataset);
+        }
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                try (GZIPOutputStream gzipOut = new GZIPOutputStream(out, 64 * 1024)) {
+                    exportService.export(dataset, gzipOut);
+                }
+            } else {
+                exportService.export(dataset, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + dataset + ".ndjson\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
@@ -0,0 +1,120 @@
+package fr.techcrud.pmt_api.controllers;
+
+import fr.techcrud.pmt_api.dto.ProjectDashboardDto;
+import fr.techcrud.pmt_api.dto.ProjectMemberDto;
+import fr.techcrud.pmt_api.dto.ProjectMemberRequestDto;
+import fr.techcrud.pmt_api.exceptions.BadRequestException;
+import fr.techcrud.pmt_api.exceptions.RessourceNotFoundException;
+import fr.techcrud.pmt_api.exceptions.ServiceUnavailableException;
+import fr.techcrud.pmt_api.security.ProjectAccess;
+import fr.techcrud.pmt_api.services.ProjectDashboardService;
+import fr.techcrud.pmt_api.services.ProjectMemberService;
+import fr.techcrud.pmt_api.services.TaskEventStream;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/projects")
+@Tag(name = "Projects", description = "Endpoints for managing projects")
+@SecurityRequirement(name = "bearerAuth")
+public class ProjectController {
+
+    private final ProjectDashboardService projectDashboardService;
+    private final ProjectMemberService projectMemberService;
+    private final ProjectAccess projectAccess;
+    private final TaskEventStream taskEventStream;
+
+    public ProjectController(ProjectDashboardService projectDashboardService,
+            ProjectMemberService projectMemberService, ProjectAccess projectAccess,
+            TaskEventStream taskEventStream) {
+        this.projectDashboardService = projectDashboardService;
+        this.projectMemberService = projectMemberService;
+        this.projectAccess = projectAccess;
+        this.taskEventStream = taskEventStream;
+    }
+
+    @GetMapping("/{projectId}/dashboard")
+    @Operation(summary = "Get project dashboard", description = "Task counts by status and priority, overdue "
+            + "tasks and open tasks per assignee")
+    public ProjectDashboardDto getDashboard(@PathVariable UUID projectId) {
+        projectAccess.requireRead(projectId);
+        ProjectDashboardDto dashboard = projectDashboardService.getDashboard(projectId);
+        if (dashboard == null) {
+            throw new RessourceNotFoundException("Project not found");
+        }
+        return dashboard;
+    }
+
+    @GetMapping(value = "/{projectId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream project task changes", description = "Server-sent events: one task-change event "
+            + "per task history entry of the project, plus periodic heartbeat comments. Slow clients are "
+            + "disconnected and should reconnect")
+    public SseEmitter streamEvents(@PathVariable UUID projectId) {
+        projectAccess.requireRead(projectId);
+        SseEmitter emitter = taskEventStream.subscribe(projectId);
+        if (emitter == null) {
+            throw new ServiceUnavailableException("Too many open event streams");
+        }
+        return emitter;
+    }
+
+    @GetMapping("/{projectId}/members")
+    @Operation(summary = "List project members", description = "Members of a project with their role")
+    public List<ProjectMemberDto> findMembers(@PathVariable UUID projectId) {
+        projectAccess.requireRead(projectId);
+        List<ProjectMemberDto> members = projectMemberService.findByProject(projectId);
+        if (members == null) {
+            throw new RessourceNotFoundException("Project not found");
+        }
+        return members;
+    }
+
+    @PostMapping("/{projectId}/members")
+    @ResponseStatus(code = HttpStatus.CREATED)
+    @Operation(summary = "Add project member", description = "Add a user to a project, or change the role of "
+            + "an existing member. Requires the ADMIN project role")
+    public ProjectMemberDto addMember(@PathVariable UUID projectId, @RequestBody ProjectMemberRequestDto member) {
+        projectAccess.requireAdmin(projectId);
+        if (member.getUserId() == null || member.getRole() == null) {
+            throw new BadRequestException("userId and role are required");
+        }
+        ProjectMemberDto added = projectMemberService.addMember(projectId, member.getUserId(), member.getRole());
+        if (added == null) {
+            throw new RessourceNotFoundException("Project or user not found");
+        }
+        return added;
+    }
+
+    @PutMapping("/{projectId}/members/{userId}")
+    @Operation(summary = "Change member role", description = "Requires the ADMIN project role")
+    public ProjectMemberDto changeRole(@PathVariable UUID projectId, @PathVariable UUID userId,
+            @RequestBody ProjectMemberRequestDto member) {
+        projectAccess.requireAdmin(projectId);
+        if (member.getRole() == null) {
+            throw new BadRequestException("role is required");
+        }
+        ProjectMemberDto updated = projectMemberService.changeRole(projectId, userId, member.getRole());
+        if (updated == null) {
+            throw new RessourceNotFoundException("Member not found");
+        }
+        return updated;
+    }
+
+    @DeleteMapping("/{projectId}/members/{userId}")
+    @ResponseStatus(code = HttpStatus.NO_CONTENT)
+    @Operation(summary = "Remove project member", description = "Requires the ADMIN project role")
+    public void removeMember(@PathVariable UUID projectId, @PathVariable UUID userId) {
+        projectAccess.requireAdmin(projectId);
+        if (!projectMemberService.removeMember(projectId, userId)) {
+            throw new RessourceNotFoundException("Member not found");
+        }
+    }
+}
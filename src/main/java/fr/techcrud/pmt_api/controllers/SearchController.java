@@ -0,0 +1,72 @@
+package fr.techcrud.pmt_api.controllers;
+
+import fr.techcrud.pmt_api.dto.TaskSearchHitDto;
+import fr.techcrud.pmt_api.exceptions.BadRequestException;
+import fr.techcrud.pmt_api.exceptions.ServiceUnavailableException;
+import fr.techcrud.pmt_api.security.ProjectAccess;
+import fr.techcrud.pmt_api.services.TaskSearchIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/search")
+@Tag(name = "Search", description = "Full-text search over tasks")
+@SecurityRequirement(name = "bearerAuth")
+public class SearchController {
+
+    private static final int MAX_RESULTS = 100;
+
+    private final TaskSearchIndex taskSearchIndex;
+    private final ProjectAccess projectAccess;
+
+    public SearchController(TaskSearchIndex taskSearchIndex, ProjectAccess projectAccess) {
+        this.taskSearchIndex = taskSearchIndex;
+        this.projectAccess = projectAccess;
+    }
+
+    @GetMapping("/tasks")
+    @Operation(summary = "Search tasks", description = "Search task names and descriptions, best matches first. "
+            + "Limited to projectId when given, otherwise to every project the caller can read")
+    public List<TaskSearchHitDto> searchTasks(@RequestParam String q,
+            @RequestParam(required = false) UUID projectId,
+            @RequestParam(defaultValue = "20") int size) {
+        if (q.isBlank()) {
+            throw new BadRequestException("q is required");
+        }
+        if (size < 1) {
+            throw new BadRequestException("size must be greater than 0");
+        }
+        Set<UUID> scope;
+        if (projectId != null) {
+            projectAccess.requireRead(projectId);
+            scope = Set.of(projectId);
+        } else {
+            scope = projectAccess.readableProjectIds();
+        }
+        return taskSearchIndex.search(scope, q, Math.min(size, MAX_RESULTS));
+    }
+
+    @PostMapping("/tasks/rebuild")
+    @Operation(summary = "Rebuild task search index", description = "Reload the index of this instance from the "
+            + "database (ADMIN only)")
+    public Map<String, Object> rebuild() {
+        if (taskSearchIndex.rebuild() < 0) {
+            throw new ServiceUnavailableException("Task search index rebuild already running");
+        }
+        return taskSearchIndex.stats();
+    }
+
+    @GetMapping("/tasks/stats")
+    @Operation(summary = "Task search index size", description = "Projects, tasks, terms and postings held by "
+            + "the index of this instance (ADMIN only)")
+    public Map<String, Object> stats() {
+        return taskSearchIndex.stats();
+    }
+}
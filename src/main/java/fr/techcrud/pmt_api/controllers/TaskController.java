@@ -0,0 +1,189 @@
+package fr.techcrud.pmt_api.controllers;
+
+import fr.techcrud.pmt_api.dto.BulkTaskOperationDto;
+import fr.techcrud.pmt_api.dto.BulkTaskResultDto;
+import fr.techcrud.pmt_api.dto.CursorPageDto;
+import fr.techcrud.pmt_api.dto.TaskHistoryDto;
+import fr.techcrud.pmt_api.dto.TaskRequestDto;
+import fr.techcrud.pmt_api.dto.TaskResponseDto;
+import fr.techcrud.pmt_api.dto.TaskSummaryDto;
+import fr.techcrud.pmt_api.enums.TaskPriority;
+import fr.techcrud.pmt_api.enums.TaskStatus;
+import fr.techcrud.pmt_api.exceptions.BadRequestException;
+import fr.techcrud.pmt_api.exceptions.ConflictException;
+import fr.techcrud.pmt_api.exceptions.PreconditionFailedException;
+import fr.techcrud.pmt_api.exceptions.RessourceNotFoundException;
+import fr.techcrud.pmt_api.security.ProjectAccess;
+import fr.techcrud.pmt_api.services.TaskService;
+import fr.techcrud.pmt_api.utils.ETags;
+import fr.techcrud.pmt_api.utils.TaskCursor;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Tasks", description = "Endpoints for managing project tasks")
+@SecurityRequirement(name = "bearerAuth")
+public class TaskController {
+
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_HISTORY_DAYS = 365;
+    private static final int MAX_BULK_OPERATIONS = 1000;
+
+    private final TaskService taskService;
+    private final ProjectAccess projectAccess;
+
+    public TaskController(TaskService taskService, ProjectAccess projectAccess) {
+        this.taskService = taskService;
+        this.projectAccess = projectAccess;
+    }
+
+    @GetMapping("/projects/{projectId}/tasks")
+    @Operation(summary = "List project tasks", description = "Tasks of a project ordered by due date (tasks "
+            + "without due date last), optionally filtered by status, priority and assignee. "
+            + "Pass the nextCursor of a page as cursor to get the following one.")
+    public CursorPageDto<TaskSummaryDto> findByProject(@PathVariable UUID projectId,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) TaskPriority priority,
+            @RequestParam(required = false) UUID assigneeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        projectAccess.requireRead(projectId);
+        if (size < 1) {
+            throw new BadRequestException("size must be greater than 0");
+        }
+        TaskCursor taskCursor = null;
+        if (cursor != null) {
+            taskCursor = TaskCursor.decode(cursor);
+            if (taskCursor == null) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+        return taskService.findByProject(projectId, status, priority, assigneeId, taskCursor,
+                Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    @PostMapping("/projects/{projectId}/tasks")
+    @ResponseStatus(code = HttpStatus.CREATED)
+    @Operation(summary = "Create task", description = "Create a task in a project")
+    public TaskResponseDto create(@PathVariable UUID projectId,
+            @Validated(TaskRequestDto.Create.class) @RequestBody TaskRequestDto task) {
+        projectAccess.requireWrite(projectId);
+        if (task.getName() == null || task.getName().isBlank()) {
+            throw new BadRequestException("Task name is required");
+        }
+        TaskResponseDto created = taskService.create(projectId, task);
+        if (created == null) {
+            throw new RessourceNotFoundException("Project or assignee not found");
+        }
+        return created;
+    }
+
+    @PostMapping("/projects/{projectId}/tasks/bulk")
+    @Operation(summary = "Bulk task changes", description = "Apply a list of CREATE, UPDATE and DELETE operations "
+            + "on the tasks of a project in a single transaction. If any operation fails none is applied and the "
+            + "response is 422; the result of each operation is returned in order")
+    public ResponseEntity<BulkTaskResultDto> bulk(@PathVariable UUID projectId,
+            @RequestBody List<BulkTaskOperationDto> operations) {
+        projectAccess.requireWrite(projectId);
+        if (operations == null || operations.isEmpty()) {
+            throw new BadRequestException("At least one operation is required");
+        }
+        if (operations.size() > MAX_BULK_OPERATIONS) {
+            throw new BadRequestException("At most " + MAX_BULK_OPERATIONS + " operations per request");
+        }
+        BulkTaskResultDto result = taskService.bulk(projectId, operations);
+        // Lot annulé : même corps (résultat de chaque opération), mais un statut d'échec
+        return ResponseEntity.status(result.isApplied() ? HttpStatus.OK : HttpStatus.UNPROCESSABLE_CONTENT)
+                .body(result);
+    }
+
+    @GetMapping("/tasks/{id}")
+    @Operation(summary = "Get task by ID", description = "Retrieve a task with its description")
+    public ResponseEntity<TaskResponseDto> findById(@PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        projectAccess.requireRead(projectOf(id));
+        // Client à jour : on compare la seule version, sans charger la description
+        if (ifNoneMatch != null) {
+            Long version = taskService.findVersion(id);
+            if (version != null && ETags.noneMatchHits(ifNoneMatch, ETags.of(id, version))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(ETags.of(id, version)).build();
+            }
+        }
+        TaskResponseDto task = taskService.findById(id);
+        if (task == null) {
+            throw new RessourceNotFoundException("Task not found");
+        }
+        return ResponseEntity.ok().eTag(ETags.of(id, task.getVersion())).body(task);
+    }
+
+    @GetMapping("/tasks/{id}/history")
+    @Operation(summary = "Get recent task history", description = "Changes made to a task during the last "
+            + "days (30 by default, at most 365), most recent first")
+    public List<TaskHistoryDto> findRecentHistory(@PathVariable UUID id,
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(defaultValue = "100") int size) {
+        projectAccess.requireRead(projectOf(id));
+        if (days < 1 || size < 1) {
+            throw new BadRequestException("days and size must be greater than 0");
+        }
+        List<TaskHistoryDto> history = taskService.findRecentHistory(id, Math.min(days, MAX_HISTORY_DAYS),
+                Math.min(size, MAX_PAGE_SIZE));
+        if (history == null) {
+            throw new RessourceNotFoundException("Task not found");
+        }
+        return history;
+    }
+
+    @PutMapping("/tasks/{id}")
+    @Operation(summary = "Update task", description = "Update the provided fields of a task. With If-Match, the "
+            + "update is refused (412) if the task changed since that ETag was read; without If-Match, a concurrent "
+            + "update is reported as a conflict (409)")
+    public ResponseEntity<TaskResponseDto> update(@PathVariable UUID id, @RequestBody TaskRequestDto task,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        projectAccess.requireWrite(projectOf(id));
+        TaskResponseDto updated;
+        try {
+            updated = taskService.update(id, task, ETags.expectedVersion(ifMatch, id));
+        } catch (OptimisticLockingFailureException e) {
+            // 412 réservé à un If-Match en échec ; sans précondition, c'est une écriture concurrente (409)
+            if (ifMatch != null) {
+                throw new PreconditionFailedException("Task was modified since it was read");
+            }
+            throw new ConflictException("Task was modified concurrently");
+        }
+        if (updated == null) {
+            throw new RessourceNotFoundException("Task or assignee not found");
+        }
+        return ResponseEntity.ok().eTag(ETags.of(id, updated.getVersion())).body(updated);
+    }
+
+    @DeleteMapping("/tasks/{id}")
+    @ResponseStatus(code = HttpStatus.NO_CONTENT)
+    @Operation(summary = "Delete task", description = "Delete a task")
+    public void delete(@PathVariable UUID id) {
+        projectAccess.requireWrite(projectOf(id));
+        if (!taskService.delete(id)) {
+            throw new RessourceNotFoundException("Task not found");
+        }
+    }
+
+    // Le rôle se vérifie sur le projet de la tâche
+    private UUID projectOf(UUID taskId) {
+        UUID projectId = taskService.findProjectId(taskId);
+        if (projectId == null) {
+            throw new RessourceNotFoundException("Task not found");
+        }
+        return projectId;
+    }
+}
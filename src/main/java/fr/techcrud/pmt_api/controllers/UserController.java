@@ -1,19 +1,28 @@
 package fr.techcrud.pmt_api.controllers;
 
+import fr.techcrud.pmt_api.dto.CursorPageDto;
 import fr.techcrud.pmt_api.dto.UserResponseDto;
+import fr.techcrud.pmt_api.dto.UserSummaryDto;
+import fr.techcrud.pmt_api.exceptions.BadRequestException;
+import fr.techcrud.pmt_api.exceptions.ConflictException;
+import fr.techcrud.pmt_api.exceptions.PreconditionFailedException;
 import fr.techcrud.pmt_api.exceptions.RessourceNotFoundException;
 import fr.techcrud.pmt_api.models.User;
+import fr.techcrud.pmt_api.security.AuthenticatedUser;
+import fr.techcrud.pmt_api.security.CurrentUser;
 import fr.techcrud.pmt_api.services.userService;
+import fr.techcrud.pmt_api.utils.ETags;
 import fr.techcrud.pmt_api.utils.UserResponseSerializer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -27,51 +36,82 @@ public class UserController {
     @Autowired
     private UserResponseSerializer userResponseSerializer;
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     @GetMapping
-    @Operation(summary = "Get list of users", description = "Retrieve all users")
-    public List<User> findAll() {
-        return userService.findAll();
+    @Operation(summary = "Get list of users", description = "Retrieve users page by page, ordered by id. "
+            + "Pass the nextCursor of a page as cursor to get the following one.")
+    public CursorPageDto<UserSummaryDto> findAll(@RequestParam(required = false) UUID cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String role) {
+        if (size < 1) {
+            throw new BadRequestException("size must be greater than 0");
+        }
+        return userService.findPage(cursor, Math.min(size, MAX_PAGE_SIZE), role);
     }
 
     @GetMapping("/me")
     @Operation(summary = "Get current user", description = "Retrieve the currently authenticated user")
-    public UserResponseDto getMe() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        assert authentication != null;
-        String email = (String) authentication.getPrincipal();
+    public ResponseEntity<UserResponseDto> getMe(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        AuthenticatedUser currentUser = CurrentUser.get();
+        assert currentUser != null;
 
-        User user = userService.findByEmail(email);
+        // L'id est porté par le token : lecture par clé primaire, sans passer par l'email
+        User user = userService.findById(currentUser.id());
         if (user == null) {
             throw new RessourceNotFoundException("User not found");
         }
 
-        return userResponseSerializer.toResponse(user);
+        return conditionalResponse(user, ifNoneMatch);
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get user by ID", description = "Retrieve a user by their unique ID")
-    public UserResponseDto findById(@PathVariable UUID id) {
+    public ResponseEntity<UserResponseDto> findById(@PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         User user = userService.findById(id);
 
         if (user == null) {
             throw new RessourceNotFoundException("User not found");
         }
 
-        return userResponseSerializer.toResponse(user);
+        return conditionalResponse(user, ifNoneMatch);
     }
 
     @PutMapping("/me")
     @Operation(summary = "Update current user", description = "Update the profile of the currently authenticated user")
-    public UserResponseDto updateMe(@RequestBody User userData) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        assert authentication != null;
-        String email = (String) authentication.getPrincipal();
+    public ResponseEntity<UserResponseDto> updateMe(@RequestBody User userData,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        AuthenticatedUser currentUser = CurrentUser.get();
+        assert currentUser != null;
 
-        User updatedUser = userService.updateByEmail(email, userData);
+        User updatedUser;
+        try {
+            updatedUser = userService.updateProfile(currentUser.id(), userData,
+                    ETags.expectedVersion(ifMatch, currentUser.id()));
+        } catch (OptimisticLockingFailureException e) {
+            // 412 réservé à un If-Match en échec ; sans précondition, c'est une écriture concurrente (409)
+            if (ifMatch != null) {
+                throw new PreconditionFailedException("User was modified since it was read");
+            }
+            throw new ConflictException("User was modified concurrently");
+        }
         if (updatedUser == null) {
             throw new RessourceNotFoundException("User not found");
         }
 
-        return userResponseSerializer.toResponse(updatedUser);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(updatedUser.getId(), updatedUser.getVersion()))
+                .body(userResponseSerializer.toResponse(updatedUser));
+    }
+
+    // 304 sans corps si le client a déjà cette version : rien n'est sérialisé
+    private ResponseEntity<UserResponseDto> conditionalResponse(User user, String ifNoneMatch) {
+        String etag = ETags.of(user.getId(), user.getVersion());
+        if (ETags.noneMatchHits(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(userResponseSerializer.toResponse(user));
     }
 }
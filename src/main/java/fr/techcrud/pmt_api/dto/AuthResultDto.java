@@ -0,0 +1,49 @@
+package fr.techcrud.pmt_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+
+@JsonPropertyOrder({ "token", "id", "email", "firstName", "lastName", "role", "phoneNumber" })
+public class AuthResultDto {
+    private String token;
+    private String id;
+    private String email;
+    private String firstName;
+    private String lastName;
+    private String role;
+    private String phoneNumber;
+
+    public static AuthResultDto of(String token, UserCredentialsDto user) {
+        AuthResultDto r = new AuthResultDto();
+        r.setToken(token);
+        r.setId(user.getId().toString());
+        r.setEmail(user.getEmail());
+        r.setFirstName(user.getFirstName());
+        r.setLastName(user.getLastName());
+        r.setRole(user.getRole());
+        r.setPhoneNumber(user.getPhoneNumber());
+        return r;
+    }
+
+    // getters et setters
+    public String getToken() { return token; }
+    public void setToken(String token) { this.token = token; }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public String getFirstName() { return firstName; }
+    public void setFirstName(String firstName) { this.firstName = firstName; }
+
+    public String getLastName() { return lastName; }
+    public void setLastName(String lastName) { this.lastName = lastName; }
+
+    public String getRole() { return role; }
+    public void setRole(String role) { this.role = role; }
+
+    public String getPhoneNumber() { return phoneNumber; }
+    public void setPhoneNumber(String phoneNumber) { this.phoneNumber = phoneNumber; }
+}
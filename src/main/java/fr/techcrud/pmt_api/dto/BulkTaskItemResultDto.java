@@ -0,0 +1,43 @@
+package fr.techcrud.pmt_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import fr.techcrud.pmt_api.enums.BulkOperationType;
+
+import java.util.UUID;
+
+@JsonPropertyOrder({ "index", "op", "id", "success", "error" })
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkTaskItemResultDto {
+    private final int index;
+    private final BulkOperationType op;
+    private final UUID id;
+    private final boolean success;
+    private final String error;
+
+    private BulkTaskItemResultDto(int index, BulkOperationType op, UUID id, boolean success, String error) {
+        this.index = index;
+        this.op = op;
+        this.id = id;
+        this.success = success;
+        this.error = error;
+    }
+
+    public static BulkTaskItemResultDto ok(int index, BulkOperationType op, UUID id) {
+        return new BulkTaskItemResultDto(index, op, id, true, null);
+    }
+
+    public static BulkTaskItemResultDto failed(int index, BulkOperationType op, UUID id, String error) {
+        return new BulkTaskItemResultDto(index, op, id, false, error);
+    }
+
+    public int getIndex() { return index; }
+
+    public BulkOperationType getOp() { return op; }
+
+    public UUID getId() { return id; }
+
+    public boolean isSuccess() { return success; }
+
+    public String getError() { return error; }
+}
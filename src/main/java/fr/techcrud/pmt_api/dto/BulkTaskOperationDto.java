@@ -0,0 +1,21 @@
+package fr.techcrud.pmt_api.dto;
+
+import fr.techcrud.pmt_api.enums.BulkOperationType;
+
+import java.util.UUID;
+
+// id : tâche visée par UPDATE / DELETE ; task : champs pour CREATE / UPDATE
+public class BulkTaskOperationDto {
+    private BulkOperationType op;
+    private UUID id;
+    private TaskRequestDto task;
+
+    public BulkOperationType getOp() { return op; }
+    public void setOp(BulkOperationType op) { this.op = op; }
+
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public TaskRequestDto getTask() { return task; }
+    public void setTask(TaskRequestDto task) { this.task = task; }
+}
@@ -0,0 +1,21 @@
+package fr.techcrud.pmt_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.List;
+
+// applied = false : au moins une opération a échoué et aucune n'a été appliquée
+@JsonPropertyOrder({ "applied", "results" })
+public class BulkTaskResultDto {
+    private final boolean applied;
+    private final List<BulkTaskItemResultDto> results;
+
+    public BulkTaskResultDto(boolean applied, List<BulkTaskItemResultDto> results) {
+        this.applied = applied;
+        this.results = results;
+    }
+
+    public boolean isApplied() { return applied; }
+
+    public List<BulkTaskItemResultDto> getResults() { return results; }
+}
@@ -0,0 +1,24 @@
+package fr.techcrud.pmt_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.List;
+
+
+@JsonPropertyOrder({ "items", "size", "nextCursor" })
+public class CursorPageDto<T> {
+    private final List<T> items;
+    private final String nextCursor;
+
+    public CursorPageDto(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() { return items; }
+
+    public int getSize() { return items.size(); }
+
+    // null quand il n'y a plus de page suivante
+    public String getNextCursor() { return nextCursor; }
+}
@@ -0,0 +1,40 @@
+package fr.techcrud.pmt_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.Map;
+import java.util.UUID;
+
+
+@JsonPropertyOrder({ "projectId", "totalTasks", "byStatus", "byPriority", "overdue", "assigneeLoad" })
+public class ProjectDashboardDto {
+    private final UUID projectId;
+    private final long totalTasks;
+    private final Map<String, Long> byStatus;
+    private final Map<String, Long> byPriority;
+    private final long overdue;
+    // Nombre de tâches non terminées par assigné
+    private final Map<String, Long> assigneeLoad;
+
+    public ProjectDashboardDto(UUID projectId, long totalTasks, Map<String, Long> byStatus,
+            Map<String, Long> byPriority, long overdue, Map<String, Long> assigneeLoad) {
+        this.projectId = projectId;
+        this.totalTasks = totalTasks;
+        this.byStatus = byStatus;
+        this.byPriority = byPriority;
+        this.overdue = overdue;
+        this.assigneeLoad = assigneeLoad;
+    }
+
+    public UUID getProjectId() { return projectId; }
+
+    public long getTotalTasks() { return totalTasks; }
+
+    public Map<String, Long> getByStatus() { return byStatus; }
+
+    public Map<String, Long> getByPriority() { return byPriority; }
+
+    public long getOverdue() { return overdue; }
+
+    public Map<String, Long> getAssigneeLoad() { return assigneeLoad; }
+}
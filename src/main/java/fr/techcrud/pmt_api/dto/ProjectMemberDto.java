@@ -0,0 +1,25 @@
+package fr.techcrud.pmt_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import fr.techcrud.pmt_api.enums.ProjectRole;
+
+import java.util.UUID;
+
+@JsonPropertyOrder({ "projectId", "userId", "role" })
+public class ProjectMemberDto {
+    private final UUID projectId;
+    private final UUID userId;
+    private final ProjectRole role;
+
+    public ProjectMemberDto(UUID projectId, UUID userId, ProjectRole role) {
+        this.projectId = projectId;
+        this.userId = userId;
+        this.role = role;
+    }
+
+    public UUID getProjectId() { return projectId; }
+
+    public UUID getUserId() { return userId; }
+
+    public ProjectRole getRole() { return role; }
+}
@@ -0,0 +1,16 @@
+package fr.techcrud.pmt_api.dto;
+
+import fr.techcrud.pmt_api.enums.ProjectRole;
+
+import java.util.UUID;
+
+public class ProjectMemberRequestDto {
+    private UUID userId;
+    private ProjectRole role;
+
+    public UUID getUserId() { return userId; }
+    public void setUserId(UUID userId) { this.userId = userId; }
+
+    public ProjectRole getRole() { return role; }
+    public void setRole(ProjectRole role) { this.role = role; }
+}
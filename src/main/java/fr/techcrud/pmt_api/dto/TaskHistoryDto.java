@@ -0,0 +1,38 @@
+package fr.techcrud.pmt_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@JsonPropertyOrder({ "id", "changeType", "oldValue", "newValue", "modifierId", "modifiedAt" })
+public class TaskHistoryDto {
+    private final UUID id;
+    private final UUID modifierId;
+    private final String changeType;
+    private final String oldValue;
+    private final String newValue;
+    private final LocalDateTime modifiedAt;
+
+    public TaskHistoryDto(UUID id, UUID modifierId, String changeType, String oldValue, String newValue,
+            LocalDateTime modifiedAt) {
+        this.id = id;
+        this.modifierId = modifierId;
+        this.changeType = changeType;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+        this.modifiedAt = modifiedAt;
+    }
+
+    public UUID getId() { return id; }
+
+    public UUID getModifierId() { return modifierId; }
+
+    public String getChangeType() { return changeType; }
+
+    public String getOldValue() { return oldValue; }
+
+    public String getNewValue() { return newValue; }
+
+    public LocalDateTime getModifiedAt() { return modifiedAt; }
+}
@@ -0,0 +1,21 @@
+package fr.techcrud.pmt_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import fr.techcrud.pmt_api.utils.Uuids;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Une ligne de task_history en attente d'écriture, aussi diffusée aux abonnés du projet (SSE).
+// L'id est attribué à la création de l'événement ; projectId n'est pas stocké.
+@JsonPropertyOrder({ "id", "taskId", "projectId", "changeType", "oldValue", "newValue", "modifierId", "modifiedAt" })
+public record TaskHistoryEvent(UUID id, UUID taskId, UUID projectId, UUID modifierId, String changeType,
+        String oldValue, String newValue, LocalDateTime modifiedAt) {
+
+    public static TaskHistoryEvent of(UUID taskId, UUID projectId, UUID modifierId, String changeType,
+            Object oldValue, Object newValue) {
+        return new TaskHistoryEvent(Uuids.timeOrdered(), taskId, projectId, modifierId, changeType,
+                oldValue == null ? null : oldValue.toString(), newValue == null ? null : newValue.toString(),
+                LocalDateTime.now());
+    }
+}
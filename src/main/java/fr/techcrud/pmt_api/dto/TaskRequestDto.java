@@ -0,0 +1,46 @@
+package fr.techcrud.pmt_api.dto;
+
+import fr.techcrud.pmt_api.enums.TaskPriority;
+import fr.techcrud.pmt_api.enums.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public class TaskRequestDto {
+
+    // Contraintes propres à la création : une mise à jour partielle peut omettre l'assigné
+    public interface Create {
+    }
+
+    private String name;
+    private String description;
+    private TaskStatus status;
+    private TaskPriority priority;
+    @NotNull(groups = Create.class, message = "assigneeId is required")
+    private UUID assigneeId;
+    private LocalDate dueDate;
+    private LocalDate completionDate;
+
+    // getters et setters
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public TaskStatus getStatus() { return status; }
+    public void setStatus(TaskStatus status) { this.status = status; }
+
+    public TaskPriority getPriority() { return priority; }
+    public void setPriority(TaskPriority priority) { this.priority = priority; }
+
+    public UUID getAssigneeId() { return assigneeId; }
+    public void setAssigneeId(UUID assigneeId) { this.assigneeId = assigneeId; }
+
+    public LocalDate getDueDate() { return dueDate; }
+    public void setDueDate(LocalDate dueDate) { this.dueDate = dueDate; }
+
+    public LocalDate getCompletionDate() { return completionDate; }
+    public void setCompletionDate(LocalDate completionDate) { this.completionDate = completionDate; }
+}
@@ -0,0 +1,64 @@
+package fr.techcrud.pmt_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import fr.techcrud.pmt_api.enums.TaskPriority;
+import fr.techcrud.pmt_api.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+
+@JsonPropertyOrder({ "id", "projectId", "name", "description", "status", "priority", "assigneeId", "dueDate",
+        "completionDate", "createdAt", "version" })
+public class TaskResponseDto {
+    private final UUID id;
+    private final UUID projectId;
+    private final UUID assigneeId;
+    private final String name;
+    private final String description;
+    private final TaskStatus status;
+    private final TaskPriority priority;
+    private final LocalDate dueDate;
+    private final LocalDate completionDate;
+    private final LocalDateTime createdAt;
+    private final Long version;
+
+    public TaskResponseDto(UUID id, UUID projectId, UUID assigneeId, String name, String description,
+            TaskStatus status, TaskPriority priority, LocalDate dueDate, LocalDate completionDate,
+            LocalDateTime createdAt, Long version) {
+        this.id = id;
+        this.projectId = projectId;
+        this.assigneeId = assigneeId;
+        this.name = name;
+        this.description = description;
+        this.status = status;
+        this.priority = priority;
+        this.dueDate = dueDate;
+        this.completionDate = completionDate;
+        this.createdAt = createdAt;
+        this.version = version;
+    }
+
+    public UUID getId() { return id; }
+
+    public UUID getProjectId() { return projectId; }
+
+    public UUID getAssigneeId() { return assigneeId; }
+
+    public String getName() { return name; }
+
+    public String getDescription() { return description; }
+
+    public TaskStatus getStatus() { return status; }
+
+    public TaskPriority getPriority() { return priority; }
+
+    public LocalDate getDueDate() { return dueDate; }
+
+    public LocalDate getCompletionDate() { return completionDate; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public Long getVersion() { return version; }
+}
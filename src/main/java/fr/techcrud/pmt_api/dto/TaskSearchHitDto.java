@@ -0,0 +1,28 @@
+package fr.techcrud.pmt_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.UUID;
+
+@JsonPropertyOrder({ "id", "projectId", "name", "score" })
+public class TaskSearchHitDto {
+    private final UUID id;
+    private final UUID projectId;
+    private final String name;
+    private final double score;
+
+    public TaskSearchHitDto(UUID id, UUID projectId, String name, double score) {
+        this.id = id;
+        this.projectId = projectId;
+        this.name = name;
+        this.score = score;
+    }
+
+    public UUID getId() { return id; }
+
+    public UUID getProjectId() { return projectId; }
+
+    public String getName() { return name; }
+
+    public double getScore() { return score; }
+}
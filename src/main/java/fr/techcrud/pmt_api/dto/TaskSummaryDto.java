@@ -0,0 +1,56 @@
+package fr.techcrud.pmt_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import fr.techcrud.pmt_api.enums.TaskPriority;
+import fr.techcrud.pmt_api.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+
+// Ligne de la liste des tâches d'un projet : uniquement les clés des associations, jamais les entités LAZY
+@JsonPropertyOrder({ "id", "projectId", "name", "status", "priority", "assigneeId", "dueDate", "completionDate",
+        "createdAt" })
+public class TaskSummaryDto {
+    private final UUID id;
+    private final UUID projectId;
+    private final UUID assigneeId;
+    private final String name;
+    private final TaskStatus status;
+    private final TaskPriority priority;
+    private final LocalDate dueDate;
+    private final LocalDate completionDate;
+    private final LocalDateTime createdAt;
+
+    public TaskSummaryDto(UUID id, UUID projectId, UUID assigneeId, String name, TaskStatus status,
+            TaskPriority priority, LocalDate dueDate, LocalDate completionDate, LocalDateTime createdAt) {
+        this.id = id;
+        this.projectId = projectId;
+        this.assigneeId = assigneeId;
+        this.name = name;
+        this.status = status;
+        this.priority = priority;
+        this.dueDate = dueDate;
+        this.completionDate = completionDate;
+        this.createdAt = createdAt;
+    }
+
+    public UUID getId() { return id; }
+
+    public UUID getProjectId() { return projectId; }
+
+    public UUID getAssigneeId() { return assigneeId; }
+
+    public String getName() { return name; }
+
+    public TaskStatus getStatus() { return status; }
+
+    public TaskPriority getPriority() { return priority; }
+
+    public LocalDate getDueDate() { return dueDate; }
+
+    public LocalDate getCompletionDate() { return completionDate; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
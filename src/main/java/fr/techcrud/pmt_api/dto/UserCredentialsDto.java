@@ -0,0 +1,39 @@
+package fr.techcrud.pmt_api.dto;
+
+import java.util.UUID;
+
+// Projection utilisée uniquement par le login : jamais sérialisée (contient le hash du mot de passe)
+public class UserCredentialsDto {
+    private final UUID id;
+    private final String email;
+    private final String password;
+    private final String firstName;
+    private final String lastName;
+    private final String role;
+    private final String phoneNumber;
+
+    public UserCredentialsDto(UUID id, String email, String password, String firstName, String lastName,
+            String role, String phoneNumber) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.role = role;
+        this.phoneNumber = phoneNumber;
+    }
+
+    public UUID getId() { return id; }
+
+    public String getEmail() { return email; }
+
+    public String getPassword() { return password; }
+
+    public String getFirstName() { return firstName; }
+
+    public String getLastName() { return lastName; }
+
+    public String getRole() { return role; }
+
+    public String getPhoneNumber() { return phoneNumber; }
+}
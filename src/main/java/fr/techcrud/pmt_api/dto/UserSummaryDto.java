@@ -0,0 +1,38 @@
+package fr.techcrud.pmt_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.UUID;
+
+
+@JsonPropertyOrder({ "id", "firstName", "lastName", "email", "role", "phoneNumber" })
+public class UserSummaryDto {
+    private final UUID id;
+    private final String email;
+    private final String firstName;
+    private final String lastName;
+    private final String role;
+    private final String phoneNumber;
+
+    public UserSummaryDto(UUID id, String email, String firstName, String lastName, String role,
+            String phoneNumber) {
+        this.id = id;
+        this.email = email;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.role = role;
+        this.phoneNumber = phoneNumber;
+    }
+
+    public UUID getId() { return id; }
+
+    public String getEmail() { return email; }
+
+    public String getFirstName() { return firstName; }
+
+    public String getLastName() { return lastName; }
+
+    public String getRole() { return role; }
+
+    public String getPhoneNumber() { return phoneNumber; }
+}
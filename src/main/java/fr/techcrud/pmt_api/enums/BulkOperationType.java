@@ -0,0 +1,7 @@
+package fr.techcrud.pmt_api.enums;
+
+public enum BulkOperationType {
+    CREATE,
+    UPDATE,
+    DELETE
+}
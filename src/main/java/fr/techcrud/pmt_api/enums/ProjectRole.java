@@ -1,7 +1,12 @@
 package fr.techcrud.pmt_api.enums;
 
+// Du plus au moins privilégié
 public enum ProjectRole {
     ADMIN,
     MEMBER,
-    OBSERVER
+    OBSERVER;
+
+    public boolean includes(ProjectRole required) {
+        return ordinal() <= required.ordinal();
+    }
 }
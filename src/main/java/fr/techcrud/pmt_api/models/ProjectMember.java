@@ -2,21 +2,27 @@ package fr.techcrud.pmt_api.models;
 
 import fr.techcrud.pmt_api.enums.ProjectRole;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.type.SqlTypes;
 
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project-members")
 @Table(name = "project_member", uniqueConstraints = {
         @UniqueConstraint(name = "unique_project_member", columnNames = { "project_id", "user_id" })
 })
 public class ProjectMember {
 
     @Id
-    @GeneratedValue(generator = "UUID")
-    @JdbcTypeCode(SqlTypes.CHAR)
-    @Column(name = "id", updatable = false, nullable = false, columnDefinition = "CHAR(36)")
+    // UUID v7 (horodaté) stocké en BINARY(16) : insertions ordonnées dans l'index clusterisé InnoDB
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id", updatable = false, nullable = false, columnDefinition = "BINARY(16)")
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -31,6 +37,10 @@ public class ProjectMember {
     @Column(nullable = false)
     private ProjectRole role;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public ProjectMember() {
     }
 
@@ -65,4 +75,12 @@ public class ProjectMember {
     public void setRole(ProjectRole role) {
         this.role = role;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -3,6 +3,7 @@ package fr.techcrud.pmt_api.models;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
@@ -13,9 +14,10 @@ import java.util.UUID;
 public class TaskHistory {
 
     @Id
-    @GeneratedValue(generator = "UUID")
-    @JdbcTypeCode(SqlTypes.CHAR)
-    @Column(name = "id", updatable = false, nullable = false, columnDefinition = "CHAR(36)")
+    // UUID v7 (horodaté) stocké en BINARY(16) : insertions ordonnées dans l'index clusterisé InnoDB
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id", updatable = false, nullable = false, columnDefinition = "BINARY(16)")
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -23,7 +25,7 @@ public class TaskHistory {
     private Task task;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "modifier_id", nullable = false)
+    @JoinColumn(name = "modifier_id")
     private User modifier;
 
     @Column(name = "change_type", nullable = false, length = 50)
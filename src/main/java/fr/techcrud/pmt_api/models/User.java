@@ -4,18 +4,24 @@ import jakarta.persistence.*;
 
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.type.SqlTypes;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Table(name = "user")
 public class User {
 
 
     @Id
-    @GeneratedValue(generator = "UUID")
-    @JdbcTypeCode(SqlTypes.CHAR)
-    @Column(name = "id", updatable = false, nullable = false, columnDefinition = "CHAR(36)")
+    // UUID v7 (horodaté) stocké en BINARY(16) : insertions ordonnées dans l'index clusterisé InnoDB
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id", updatable = false, nullable = false, columnDefinition = "BINARY(16)")
     private UUID id;
 
 
@@ -38,6 +44,11 @@ public class User {
     @Column(name = "phone_number")
     private String phoneNumber;
 
+    // Verrou optimiste, et source des ETag
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public UUID getId() {
         return id;
     }
@@ -95,5 +106,11 @@ public class User {
         this.phoneNumber = phoneNumber;
     }
 
-}
+    public Long getVersion() {
+        return version;
+    }
 
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
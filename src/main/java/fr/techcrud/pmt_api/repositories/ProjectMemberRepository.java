@@ -0,0 +1,35 @@
+package fr.techcrud.pmt_api.repositories;
+
+import fr.techcrud.pmt_api.dto.ProjectMemberDto;
+import fr.techcrud.pmt_api.models.ProjectMember;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ProjectMemberRepository extends JpaRepository<ProjectMember, UUID> {
+
+    @Query("select new fr.techcrud.pmt_api.dto.ProjectMemberDto(m.project.id, m.user.id, m.role) "
+            + "from ProjectMember m where m.user.id = :userId")
+    List<ProjectMemberDto> findByUser(@Param("userId") UUID userId);
+
+    // Résultats mis en cache, invalidés par Hibernate à chaque écriture sur project_member
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "project-member-queries") })
+    @Query("select new fr.techcrud.pmt_api.dto.ProjectMemberDto(m.project.id, m.user.id, m.role) "
+            + "from ProjectMember m where m.project.id = :projectId order by m.id")
+    List<ProjectMemberDto> findByProject(@Param("projectId") UUID projectId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "project-member-queries") })
+    @Query("select m from ProjectMember m where m.project.id = :projectId and m.user.id = :userId")
+    Optional<ProjectMember> findMember(@Param("projectId") UUID projectId, @Param("userId") UUID userId);
+}
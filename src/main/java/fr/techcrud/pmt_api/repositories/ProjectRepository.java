@@ -0,0 +1,15 @@
+package fr.techcrud.pmt_api.repositories;
+
+import fr.techcrud.pmt_api.models.Project;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ProjectRepository extends JpaRepository<Project, UUID> {
+
+    @Query("select p.id from Project p where p.author.id = :authorId")
+    List<UUID> findIdsByAuthor(@Param("authorId") UUID authorId);
+}
@@ -0,0 +1,112 @@
+package fr.techcrud.pmt_api.repositories;
+
+import fr.techcrud.pmt_api.utils.Uuids;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Accès JDBC à project_task_counter (table de compteurs, sans entité JPA).
+ * Les appels participent à la transaction JPA en cours.
+ */
+@Repository
+public class ProjectTaskCounterRepository {
+
+    public static final String STATUS = "STATUS";
+    public static final String PRIORITY = "PRIORITY";
+    public static final String ASSIGNEE = "ASSIGNEE";
+
+    private static final String UPSERT = "INSERT INTO project_task_counter "
+            + "(project_id, dimension, dimension_key, task_count) VALUES (?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE task_count = task_count + VALUES(task_count)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProjectTaskCounterRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record CounterKey(UUID projectId, String dimension, String key) implements Comparable<CounterKey> {
+        @Override
+        public int compareTo(CounterKey other) {
+            int byProject = projectId.compareTo(other.projectId);
+            if (byProject != 0) {
+                return byProject;
+            }
+            int byDimension = dimension.compareTo(other.dimension);
+            return byDimension != 0 ? byDimension : key.compareTo(other.key);
+        }
+    }
+
+    // Les deltas doivent arriver triés par clé : deux transactions verrouillent alors les lignes dans le même ordre
+    public void increment(List<Map.Entry<CounterKey, Long>> sortedDeltas) {
+        List<Object[]> args = new ArrayList<>(sortedDeltas.size());
+        for (Map.Entry<CounterKey, Long> delta : sortedDeltas) {
+            CounterKey key = delta.getKey();
+            args.add(new Object[] { Uuids.toBytes(key.projectId()), key.dimension(), key.key(), delta.getValue() });
+        }
+        jdbcTemplate.batchUpdate(UPSERT, args);
+    }
+
+    public Map<CounterKey, Long> findByProject(UUID projectId, boolean forUpdate) {
+        Map<CounterKey, Long> counters = new HashMap<>();
+        jdbcTemplate.query("SELECT dimension, dimension_key, task_count FROM project_task_counter WHERE project_id = ?"
+                + (forUpdate ? " FOR UPDATE" : ""),
+                rs -> {
+                    counters.put(new CounterKey(projectId, rs.getString(1), rs.getString(2)), rs.getLong(3));
+                },
+                (Object) Uuids.toBytes(projectId));
+        return counters;
+    }
+
+    public Map<CounterKey, Long> findAll() {
+        Map<CounterKey, Long> counters = new HashMap<>();
+        jdbcTemplate.query("SELECT project_id, dimension, dimension_key, task_count FROM project_task_counter",
+                rs -> {
+                    counters.put(new CounterKey(Uuids.fromBytes(rs.getBytes(1)), rs.getString(2), rs.getString(3)),
+                            rs.getLong(4));
+                });
+        return counters;
+    }
+
+    // Agrégats recalculés depuis task (tous les projets si projectId est null), pour la réconciliation
+    public Map<CounterKey, Long> computeFromTasks(UUID projectId) {
+        String projectFilter = projectId == null ? "" : " AND project_id = ?";
+        Object[] args = projectId == null ? new Object[0] : new Object[] { Uuids.toBytes(projectId) };
+        Map<CounterKey, Long> counters = new HashMap<>();
+
+        jdbcTemplate.query("SELECT project_id, status, COUNT(*) FROM task WHERE 1 = 1" + projectFilter
+                + " GROUP BY project_id, status",
+                rs -> {
+                    counters.put(new CounterKey(Uuids.fromBytes(rs.getBytes(1)), STATUS, rs.getString(2)),
+                            rs.getLong(3));
+                }, args);
+        jdbcTemplate.query("SELECT project_id, priority, COUNT(*) FROM task WHERE 1 = 1" + projectFilter
+                + " GROUP BY project_id, priority",
+                rs -> {
+                    counters.put(new CounterKey(Uuids.fromBytes(rs.getBytes(1)), PRIORITY, rs.getString(2)),
+                            rs.getLong(3));
+                }, args);
+        jdbcTemplate.query("SELECT project_id, assignee_id, COUNT(*) FROM task WHERE status <> 'COMPLETED'"
+                + projectFilter + " GROUP BY project_id, assignee_id",
+                rs -> {
+                    counters.put(new CounterKey(Uuids.fromBytes(rs.getBytes(1)), ASSIGNEE,
+                            Uuids.fromBytes(rs.getBytes(2)).toString()), rs.getLong(3));
+                }, args);
+        return counters;
+    }
+
+    public void replaceProject(UUID projectId, Map<CounterKey, Long> counters) {
+        jdbcTemplate.update("DELETE FROM project_task_counter WHERE project_id = ?", (Object) Uuids.toBytes(projectId));
+        List<Object[]> args = new ArrayList<>(counters.size());
+        counters.forEach((key, count) -> args.add(
+                new Object[] { Uuids.toBytes(projectId), key.dimension(), key.key(), count }));
+        jdbcTemplate.batchUpdate("INSERT INTO project_task_counter (project_id, dimension, dimension_key, task_count) "
+                + "VALUES (?, ?, ?, ?)", args);
+    }
+}
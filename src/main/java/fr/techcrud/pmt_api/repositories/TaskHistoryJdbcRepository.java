@@ -0,0 +1,43 @@
+package fr.techcrud.pmt_api.repositories;
+
+import fr.techcrud.pmt_api.dto.TaskHistoryEvent;
+import fr.techcrud.pmt_api.utils.Uuids;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+// Insertions JDBC en lot dans task_history, hors du contexte de persistance JPA
+@Repository
+public class TaskHistoryJdbcRepository {
+
+    private static final String INSERT = "INSERT INTO task_history "
+            + "(id, task_id, modifier_id, change_type, old_value, new_value, modified_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskHistoryJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertBatch(List<TaskHistoryEvent> events) {
+        List<Object[]> args = new ArrayList<>(events.size());
+        for (TaskHistoryEvent event : events) {
+            args.add(toArgs(event));
+        }
+        jdbcTemplate.batchUpdate(INSERT, args);
+    }
+
+    public void insert(TaskHistoryEvent event) {
+        jdbcTemplate.update(INSERT, toArgs(event));
+    }
+
+    private static Object[] toArgs(TaskHistoryEvent event) {
+        return new Object[] { Uuids.toBytes(event.id()), Uuids.toBytes(event.taskId()),
+                Uuids.toBytes(event.modifierId()), event.changeType(), event.oldValue(), event.newValue(),
+                Timestamp.valueOf(event.modifiedAt()) };
+    }
+}
@@ -0,0 +1,22 @@
+package fr.techcrud.pmt_api.repositories;
+
+import fr.techcrud.pmt_api.dto.TaskHistoryDto;
+import fr.techcrud.pmt_api.models.TaskHistory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface TaskHistoryRepository extends JpaRepository<TaskHistory, UUID> {
+
+    // La borne sur modified_at limite la lecture aux partitions récentes (élagage de partitions)
+    @Query("select new fr.techcrud.pmt_api.dto.TaskHistoryDto(h.id, h.modifier.id, h.changeType, h.oldValue, "
+            + "h.newValue, h.modifiedAt) from TaskHistory h "
+            + "where h.task.id = :taskId and h.modifiedAt >= :since order by h.modifiedAt desc")
+    List<TaskHistoryDto> findRecent(@Param("taskId") UUID taskId, @Param("since") LocalDateTime since,
+            Pageable limit);
+}
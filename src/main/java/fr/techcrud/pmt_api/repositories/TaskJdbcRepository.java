@@ -0,0 +1,57 @@
+package fr.techcrud.pmt_api.repositories;
+
+import fr.techcrud.pmt_api.enums.TaskPriority;
+import fr.techcrud.pmt_api.enums.TaskStatus;
+import fr.techcrud.pmt_api.utils.Uuids;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Mises à jour ensemblistes sur task, sans passer par les entités.
+ * Les appels participent à la transaction en cours.
+ */
+@Repository
+public class TaskJdbcRepository {
+
+    private static final String OPEN_STATUSES = "('TODO', 'IN_PROGRESS')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record TaskStatusRow(UUID id, UUID projectId, TaskStatus status, TaskPriority priority, UUID assigneeId) {
+    }
+
+    // SKIP LOCKED : deux nœuds qui tournent en même temps se partagent les tâches au lieu de s'attendre
+    public List<TaskStatusRow> lockOverdue(LocalDate today, int limit) {
+        return jdbcTemplate.query("SELECT id, project_id, status, priority, assignee_id FROM task "
+                + "WHERE status IN " + OPEN_STATUSES + " AND due_date < ? LIMIT ? FOR UPDATE SKIP LOCKED",
+                (rs, rowNum) -> new TaskStatusRow(Uuids.fromBytes(rs.getBytes(1)), Uuids.fromBytes(rs.getBytes(2)),
+                        TaskStatus.valueOf(rs.getString(3)), TaskPriority.valueOf(rs.getString(4)),
+                        Uuids.fromBytes(rs.getBytes(5))),
+                Date.valueOf(today), limit);
+    }
+
+    public int markOverdue(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Object> args = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            args.add(Uuids.toBytes(id));
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        // La version change aussi : les ETag des tâches modifiées ne correspondent plus
+        return jdbcTemplate.update("UPDATE task SET status = 'OVERDUE', version = version + 1 "
+                + "WHERE id IN (" + placeholders + ") AND status IN " + OPEN_STATUSES, args.toArray());
+    }
+}
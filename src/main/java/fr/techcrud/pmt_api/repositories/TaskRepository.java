@@ -0,0 +1,62 @@
+package fr.techcrud.pmt_api.repositories;
+
+import fr.techcrud.pmt_api.dto.TaskResponseDto;
+import fr.techcrud.pmt_api.dto.TaskSummaryDto;
+import fr.techcrud.pmt_api.enums.TaskPriority;
+import fr.techcrud.pmt_api.enums.TaskStatus;
+import fr.techcrud.pmt_api.models.Task;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Les listes de tâches sont paginées par clé sur (due_date, id) et s'appuient sur les index
+ * composites (project_id, [status|priority|assignee_id,] due_date, id) de V5.
+ * Les tâches sans échéance sont listées après les autres, par id.
+ */
+public interface TaskRepository extends JpaRepository<Task, UUID> {
+
+    String SUMMARY = "select new fr.techcrud.pmt_api.dto.TaskSummaryDto(t.id, t.project.id, t.assignee.id, t.name, "
+            + "t.status, t.priority, t.dueDate, t.completionDate, t.createdAt) from Task t ";
+
+    String FILTERS = "where t.project.id = :projectId "
+            + "and (:status is null or t.status = :status) "
+            + "and (:priority is null or t.priority = :priority) "
+            + "and (:assigneeId is null or t.assignee.id = :assigneeId) ";
+
+    @Query(SUMMARY + FILTERS + "and t.dueDate is not null order by t.dueDate, t.id")
+    List<TaskSummaryDto> findDated(@Param("projectId") UUID projectId, @Param("status") TaskStatus status,
+            @Param("priority") TaskPriority priority, @Param("assigneeId") UUID assigneeId, Pageable pageable);
+
+    @Query(SUMMARY + FILTERS + "and (t.dueDate > :afterDue or (t.dueDate = :afterDue and t.id > :afterId)) "
+            + "order by t.dueDate, t.id")
+    List<TaskSummaryDto> findDatedAfter(@Param("projectId") UUID projectId, @Param("status") TaskStatus status,
+            @Param("priority") TaskPriority priority, @Param("assigneeId") UUID assigneeId,
+            @Param("afterDue") LocalDate afterDue, @Param("afterId") UUID afterId, Pageable pageable);
+
+    @Query(SUMMARY + FILTERS + "and t.dueDate is null order by t.id")
+    List<TaskSummaryDto> findUndated(@Param("projectId") UUID projectId, @Param("status") TaskStatus status,
+            @Param("priority") TaskPriority priority, @Param("assigneeId") UUID assigneeId, Pageable pageable);
+
+    @Query(SUMMARY + FILTERS + "and t.dueDate is null and t.id > :afterId order by t.id")
+    List<TaskSummaryDto> findUndatedAfter(@Param("projectId") UUID projectId, @Param("status") TaskStatus status,
+            @Param("priority") TaskPriority priority, @Param("assigneeId") UUID assigneeId,
+            @Param("afterId") UUID afterId, Pageable pageable);
+
+    @Query("select new fr.techcrud.pmt_api.dto.TaskResponseDto(t.id, t.project.id, t.assignee.id, t.name, "
+            + "t.description, t.status, t.priority, t.dueDate, t.completionDate, t.createdAt, t.version) "
+            + "from Task t where t.id = :id")
+    Optional<TaskResponseDto> findDetailById(@Param("id") UUID id);
+
+    @Query("select t.project.id from Task t where t.id = :id")
+    Optional<UUID> findProjectIdById(@Param("id") UUID id);
+
+    @Query("select t.version from Task t where t.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+}
@@ -1,12 +1,44 @@
 package fr.techcrud.pmt_api.repositories;
 
+import fr.techcrud.pmt_api.dto.UserCredentialsDto;
+import fr.techcrud.pmt_api.dto.UserSummaryDto;
 import fr.techcrud.pmt_api.models.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface userRepository extends JpaRepository<User, UUID> {
 
+    // Cache de requêtes : l'id trouvé est mis en cache, l'entité est ensuite lue dans la région "users"
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "user-queries") })
     Optional<User> findByEmail(String email);
+
+    @Query("select new fr.techcrud.pmt_api.dto.UserCredentialsDto(u.id, u.email, u.password, u.firstName, "
+            + "u.lastName, u.role, u.phoneNumber) from User u where u.email = :email")
+    Optional<UserCredentialsDto> findCredentialsByEmail(@Param("email") String email);
+
+    // Pagination par clé (keyset) sur l'id : pas d'OFFSET, coût constant quelle que soit la page
+    @Query("select new fr.techcrud.pmt_api.dto.UserSummaryDto(u.id, u.email, u.firstName, u.lastName, u.role, "
+            + "u.phoneNumber) from User u where (:role is null or u.role = :role) order by u.id")
+    List<UserSummaryDto> findSummaries(@Param("role") String role, Pageable pageable);
+
+    @Query("select new fr.techcrud.pmt_api.dto.UserSummaryDto(u.id, u.email, u.firstName, u.lastName, u.role, "
+            + "u.phoneNumber) from User u where u.id > :after and (:role is null or u.role = :role) order by u.id")
+    List<UserSummaryDto> findSummariesAfter(@Param("after") UUID after, @Param("role") String role,
+            Pageable pageable);
+
+    @Query("select u.id from User u where u.id in :ids")
+    Set<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 }
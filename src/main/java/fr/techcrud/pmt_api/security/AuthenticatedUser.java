@@ -0,0 +1,9 @@
+package fr.techcrud.pmt_api.security;
+
+import java.util.UUID;
+
+/**
+ * Identité portée par le JWT, exposée comme principal dans le SecurityContext.
+ */
+public record AuthenticatedUser(UUID id, String email, String role) {
+}
@@ -0,0 +1,19 @@
+package fr.techcrud.pmt_api.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public final class CurrentUser {
+
+    private CurrentUser() {
+    }
+
+    // Retourne l'utilisateur authentifié par le filtre JWT, ou null hors requête authentifiée
+    public static AuthenticatedUser get() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user;
+        }
+        return null;
+    }
+}
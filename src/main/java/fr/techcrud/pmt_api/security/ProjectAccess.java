@@ -0,0 +1,69 @@
+package fr.techcrud.pmt_api.security;
+
+import fr.techcrud.pmt_api.enums.ProjectRole;
+import fr.techcrud.pmt_api.exceptions.ForbiddenException;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Vérifie le rôle de l'utilisateur courant sur un projet.
+ * Un administrateur de l'application (rôle ADMIN) a accès à tous les projets.
+ */
+@Component
+public class ProjectAccess {
+
+    private static final String APPLICATION_ADMIN = "ADMIN";
+
+    private final ProjectMembershipIndex membershipIndex;
+
+    public ProjectAccess(ProjectMembershipIndex membershipIndex) {
+        this.membershipIndex = membershipIndex;
+    }
+
+    // Lecture : tout rôle sur le projet
+    public void requireRead(UUID projectId) {
+        require(projectId, ProjectRole.OBSERVER);
+    }
+
+    // Écriture des tâches : ADMIN ou MEMBER
+    public void requireWrite(UUID projectId) {
+        require(projectId, ProjectRole.MEMBER);
+    }
+
+    // Gestion des membres : ADMIN
+    public void requireAdmin(UUID projectId) {
+        require(projectId, ProjectRole.ADMIN);
+    }
+
+    // Projets lisibles par l'utilisateur courant ; null pour un administrateur de l'application (tous)
+    public Set<UUID> readableProjectIds() {
+        AuthenticatedUser user = CurrentUser.get();
+        if (user == null) {
+            return Set.of();
+        }
+        if (APPLICATION_ADMIN.equals(user.role())) {
+            return null;
+        }
+        return membershipIndex.projectIdsOf(user.id());
+    }
+
+    public boolean has(UUID projectId, ProjectRole required) {
+        AuthenticatedUser user = CurrentUser.get();
+        if (user == null) {
+            return false;
+        }
+        if (APPLICATION_ADMIN.equals(user.role())) {
+            return true;
+        }
+        ProjectRole role = membershipIndex.roleOf(user.id(), projectId);
+        return role != null && role.includes(required);
+    }
+
+    private void require(UUID projectId, ProjectRole required) {
+        if (!has(projectId, required)) {
+            throw new ForbiddenException("Insufficient project role");
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package fr.techcrud.pmt_api.security;
+
+import fr.techcrud.pmt_api.dto.ProjectMemberDto;
+import fr.techcrud.pmt_api.enums.ProjectRole;
+import fr.techcrud.pmt_api.repositories.ProjectMemberRepository;
+import fr.techcrud.pmt_api.repositories.ProjectRepository;
+import fr.techcrud.pmt_api.utils.BoundedTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Index mémoire des rôles de projet, par utilisateur : userId -> (projectId -> rôle).
+ * <p>
+ * Chargé à la première vérification d'un utilisateur (deux requêtes : ses adhésions et les projets
+ * dont il est l'auteur, qui en est ADMIN implicite), puis servi depuis la mémoire. Toute modification
+ * des membres doit appeler {@link #invalidate(UUID)}. Le TTL borne le retard des autres instances,
+ * qui ne voient pas ces invalidations.
+ */
+@Component
+public class ProjectMembershipIndex {
+
+    private final BoundedTtlCache<UUID, Map<UUID, ProjectRole>> rolesByUser;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectRepository projectRepository;
+
+    // Incrémenté à chaque invalidation : un chargement commencé avant n'est pas mis en cache
+    private final AtomicLong generation = new AtomicLong();
+
+    public ProjectMembershipIndex(ProjectMemberRepository projectMemberRepository,
+            ProjectRepository projectRepository,
+            @Value("${projects.membership-cache.max-size:10000}") int maxSize,
+            @Value("${projects.membership-cache.ttl-ms:300000}") long ttlMs) {
+        this.projectMemberRepository = projectMemberRepository;
+        this.projectRepository = projectRepository;
+        this.rolesByUser = new BoundedTtlCache<>(maxSize, ttlMs);
+    }
+
+    // null si l'utilisateur n'a aucun rôle sur le projet
+    public ProjectRole roleOf(UUID userId, UUID projectId) {
+        Map<UUID, ProjectRole> roles = rolesByUser.get(userId);
+        if (roles == null) {
+            roles = load(userId);
+        }
+        return roles.get(projectId);
+    }
+
+    public Set<UUID> projectIdsOf(UUID userId) {
+        Map<UUID, ProjectRole> roles = rolesByUser.get(userId);
+        if (roles == null) {
+            roles = load(userId);
+        }
+        return roles.keySet();
+    }
+
+    // Appliquée au commit de la transaction en cours, pour ne pas recharger l'état d'avant
+    public void invalidate(UUID userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        } else {
+            evict(userId);
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        rolesByUser.clear();
+    }
+
+    public int size() {
+        return rolesByUser.size();
+    }
+
+    public double hitRatio() {
+        return rolesByUser.hitRatio();
+    }
+
+    private void evict(UUID userId) {
+        generation.incrementAndGet();
+        rolesByUser.invalidate(userId);
+    }
+
+    private Map<UUID, ProjectRole> load(UUID userId) {
+        long loadedAt = generation.get();
+        Map<UUID, ProjectRole> roles = new HashMap<>();
+        for (ProjectMemberDto member : projectMemberRepository.findByUser(userId)) {
+            roles.put(member.getProjectId(), member.getRole());
+        }
+        for (UUID projectId : projectRepository.findIdsByAuthor(userId)) {
+            roles.put(projectId, ProjectRole.ADMIN);
+        }
+        Map<UUID, ProjectRole> snapshot = Map.copyOf(roles);
+        if (generation.get() == loadedAt) {
+            rolesByUser.put(userId, snapshot);
+        }
+        return snapshot;
+    }
+}
@@ -1,11 +1,11 @@
 package fr.techcrud.pmt_api.security;
 
-import fr.techcrud.pmt_api.utils.JwtUtil;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -25,12 +25,13 @@ import java.util.List;
 @Configuration
 public class SecurityConfig {
 
-    private final JwtUtil jwtUtil;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public SecurityConfig(JwtUtil jwtUtil, CustomAuthenticationEntryPoint customAuthenticationEntryPoint) {
-        this.jwtUtil = jwtUtil;
+    public SecurityConfig(CustomAuthenticationEntryPoint customAuthenticationEntryPoint,
+            VerifiedTokenCache verifiedTokenCache) {
         this.customAuthenticationEntryPoint = customAuthenticationEntryPoint;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Bean
@@ -51,8 +52,13 @@ public class SecurityConfig {
                                 "/swagger-ui/**",
                                 "/swagger-ui.html",
                                 "/api/v1/auth/**",
+                                "/actuator/health",
                                 "/error")
                         .permitAll()
+                        // ADMIN ne s'obtient que par le chemin d'administration (UserUpdate), jamais en libre-service
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+                        .requestMatchers("/api/v1/exports/**").hasRole("ADMIN")
+                        .requestMatchers("/api/v1/search/tasks/rebuild", "/api/v1/search/tasks/stats").hasRole("ADMIN")
                         .anyRequest().authenticated())
                 .addFilterBefore(jwtFilter(), UsernamePasswordAuthenticationFilter.class)
                 .exceptionHandling(ex -> ex.authenticationEntryPoint(customAuthenticationEntryPoint));
@@ -88,10 +94,14 @@ public class SecurityConfig {
                 String authHeader = request.getHeader("Authorization");
                 if (authHeader != null && authHeader.startsWith("Bearer ")) {
                     String token = authHeader.substring(7);
-                    if (jwtUtil.isTokenValid(token)) {
-                        String email = jwtUtil.getEmailFromToken(token);
-                        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(email, null,
-                                null);
+                    // Un seul parsing + vérification de signature par token, puis lecture depuis le cache
+                    AuthenticatedUser user = verifiedTokenCache.resolve(token);
+                    if (user != null) {
+                        List<SimpleGrantedAuthority> authorities = user.role() == null
+                                ? List.of()
+                                : List.of(new SimpleGrantedAuthority("ROLE_" + user.role()));
+                        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(user, null,
+                                authorities);
                         SecurityContextHolder.getContext().setAuthentication(auth);
                     }
                 }
@@ -0,0 +1,119 @@
+package fr.techcrud.pmt_api.security;
+
+import fr.techcrud.pmt_api.utils.BoundedTtlCache;
+import fr.techcrud.pmt_api.utils.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtUtil jwtUtil;
+    private final BoundedTtlCache<String, VerifiedToken> cache;
+
+    // Vérifications de signature effectives (hors cache), exposées en métriques
+    private final LongAdder verificationCount = new LongAdder();
+    private final LongAdder verificationNanos = new LongAdder();
+
+    public VerifiedTokenCache(JwtUtil jwtUtil, @Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.jwtUtil = jwtUtil;
+        // Pas de TTL par défaut : chaque entrée expire à la date "exp" du token
+        this.cache = new BoundedTtlCache<>(maxSize, 0);
+    }
+
+    /**
+     * Retourne l'utilisateur porté par un token dont la signature a déjà été vérifiée,
+     * ou null si le token est invalide ou expiré.
+     */
+    public AuthenticatedUser resolve(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = cache.get(digest);
+        // Une clé retirée du trousseau invalide aussi les tokens déjà en cache
+        if (cached != null && jwtUtil.isKeyStillTrusted(cached.kid())) {
+            return cached.user();
+        }
+
+        Jws<Claims> jws;
+        long start = System.nanoTime();
+        try {
+            jws = jwtUtil.parse(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            cache.invalidate(digest);
+            return null;
+        } finally {
+            verificationNanos.add(System.nanoTime() - start);
+            verificationCount.increment();
+        }
+
+        AuthenticatedUser user = toPrincipal(jws.getBody());
+        if (user == null) {
+            return null;
+        }
+        Date expiration = jws.getBody().getExpiration();
+        if (expiration != null) {
+            cache.put(digest, new VerifiedToken(user, jws.getHeader().getKeyId()), expiration.getTime());
+        }
+        return user;
+    }
+
+    public long hitCount() {
+        return cache.hitCount();
+    }
+
+    public long missCount() {
+        return cache.missCount();
+    }
+
+    public long evictionCount() {
+        return cache.evictionCount();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long verificationCount() {
+        return verificationCount.sum();
+    }
+
+    public long verificationNanos() {
+        return verificationNanos.sum();
+    }
+
+    private static AuthenticatedUser toPrincipal(Claims claims) {
+        String userId = claims.get(JwtUtil.USER_ID_CLAIM, String.class);
+        if (userId == null || claims.getSubject() == null) {
+            return null;
+        }
+        try {
+            return new AuthenticatedUser(UUID.fromString(userId), claims.getSubject(),
+                    claims.get(JwtUtil.ROLE_CLAIM, String.class));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // On ne garde jamais le token brut en mémoire, seulement son empreinte SHA-256
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record VerifiedToken(AuthenticatedUser user, String kid) {
+    }
+}
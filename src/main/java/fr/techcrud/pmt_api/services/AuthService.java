@@ -1,9 +1,10 @@
 package fr.techcrud.pmt_api.services;
 
-import fr.techcrud.pmt_api.models.User;
+import fr.techcrud.pmt_api.dto.AuthResultDto;
+import fr.techcrud.pmt_api.dto.UserCredentialsDto;
 import fr.techcrud.pmt_api.repositories.userRepository;
+import fr.techcrud.pmt_api.security.PasswordHashingExecutor;
 import fr.techcrud.pmt_api.utils.JwtUtil;
-import org.springframework.security.crypto.bcrypt.BCrypt;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -13,24 +14,29 @@ public class AuthService {
 
     private final userRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
-    public AuthService(userRepository userRepository, JwtUtil jwtUtil) {
+    public AuthService(userRepository userRepository, JwtUtil jwtUtil,
+            PasswordHashingExecutor passwordHashingExecutor) {
         this.userRepository = userRepository;
         this.jwtUtil = jwtUtil;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
-    public String login(String email, String password) {
-        Optional<User> userOpt = userRepository.findByEmail(email);
+    // Une seule lecture en base : la projection sert à la fois à vérifier le mot de passe et à construire la réponse
+    public AuthResultDto login(String email, String password) {
+        Optional<UserCredentialsDto> userOpt = userRepository.findCredentialsByEmail(email);
         if (userOpt.isEmpty()) {
             return null;
         }
 
-        User user = userOpt.get();
+        UserCredentialsDto user = userOpt.get();
 
-        if (!BCrypt.checkpw(password, user.getPassword())) {
+        if (!passwordHashingExecutor.matches(password, user.getPassword())) {
             return null;
         }
 
-        return jwtUtil.generateToken(user.getEmail());
+        String token = jwtUtil.generateToken(user.getId(), user.getEmail(), user.getRole());
+        return AuthResultDto.of(token, user);
     }
 }
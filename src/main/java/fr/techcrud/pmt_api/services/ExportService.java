@@ -0,0 +1,9 @@
+package fr.techcrud.pmt_api.services;
+
+import java.io.OutputStream;
+
+public interface ExportService {
+    public boolean supports(String dataset);
+
+    public long export(String dataset, OutputStream out);
+}
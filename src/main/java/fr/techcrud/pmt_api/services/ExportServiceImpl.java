@@ -0,0 +1,59 @@
+package fr.techcrud.pmt_api.services;
+
+import fr.techcrud.pmt_api.utils.NdjsonResultSetWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Map;
+
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    // Colonnes explicites : les tables des entités de fr.techcrud.pmt_api.models, sans le hash des mots de passe
+    private static final Map<String, String> DATASETS = Map.of(
+            "users", "SELECT id, email, first_name, last_name, role, phone_number FROM user",
+            "projects", "SELECT id, name, description, author_id, created_at FROM project",
+            "tasks", "SELECT id, project_id, name, description, status, priority, assignee_id, due_date, "
+                    + "completion_date, created_at FROM task",
+            "task-history", "SELECT id, task_id, modifier_id, change_type, old_value, new_value, modified_at "
+                    + "FROM task_history");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NdjsonResultSetWriter writer;
+    private final int fetchSize;
+
+    public ExportServiceImpl(JdbcTemplate jdbcTemplate, JsonMapper jsonMapper,
+            @Value("${export.fetch-size:-2147483648}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.writer = new NdjsonResultSetWriter(jsonMapper);
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public boolean supports(String dataset) {
+        return DATASETS.containsKey(dataset);
+    }
+
+    @Override
+    public long export(String dataset, OutputStream out) {
+        String sql = DATASETS.get(dataset);
+        if (sql == null) {
+            return -1;
+        }
+        // Curseur en lecture seule, en avant uniquement : le driver MySQL streame les lignes
+        // (fetch size Integer.MIN_VALUE, ou taille positive avec useCursorFetch=true)
+        Long rows = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (ResultSetExtractor<Long>) rs -> writer.write(rs, out));
+        return rows == null ? 0 : rows;
+    }
+}
@@ -0,0 +1,101 @@
+package fr.techcrud.pmt_api.services;
+
+import fr.techcrud.pmt_api.dto.TaskHistoryEvent;
+import fr.techcrud.pmt_api.enums.TaskStatus;
+import fr.techcrud.pmt_api.repositories.TaskJdbcRepository;
+import fr.techcrud.pmt_api.repositories.TaskJdbcRepository.TaskStatusRow;
+import fr.techcrud.pmt_api.services.ProjectTaskCounters.Deltas;
+import fr.techcrud.pmt_api.services.ProjectTaskCounters.TaskState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Passe en OVERDUE les tâches non terminées dont l'échéance est dépassée.
+ * <p>
+ * Traitement par lots de {@code tasks.overdue.chunk-size} tâches, chacun dans sa propre transaction :
+ * verrouillage des lignes (SKIP LOCKED), UPDATE ensembliste, compteurs du tableau de bord et historique.
+ * Les verrous ne sont tenus que le temps d'un lot, et plusieurs nœuds peuvent tourner en même temps.
+ */
+@Component
+public class OverdueTaskScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(OverdueTaskScheduler.class);
+
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final ProjectTaskCounters projectTaskCounters;
+    private final TaskHistoryBuffer taskHistoryBuffer;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    private final LongAdder processedCount = new LongAdder();
+    private volatile int lastRunCount;
+
+    public OverdueTaskScheduler(TaskJdbcRepository taskJdbcRepository, ProjectTaskCounters projectTaskCounters,
+            TaskHistoryBuffer taskHistoryBuffer, TransactionTemplate transactionTemplate,
+            @Value("${tasks.overdue.chunk-size:500}") int chunkSize) {
+        this.taskJdbcRepository = taskJdbcRepository;
+        this.projectTaskCounters = projectTaskCounters;
+        this.taskHistoryBuffer = taskHistoryBuffer;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${tasks.overdue.cron:0 5 * * * *}")
+    public void markOverdueTasks() {
+        LocalDate today = LocalDate.now();
+        long start = System.nanoTime();
+        int total = 0;
+        int chunk;
+        do {
+            Integer updated = transactionTemplate.execute(status -> markChunk(today));
+            chunk = updated == null ? 0 : updated;
+            total += chunk;
+        } while (chunk == chunkSize);
+
+        lastRunCount = total;
+        processedCount.add(total);
+        log.info("Overdue tasks: {} task(s) marked in {} ms", total, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public int getLastRunCount() {
+        return lastRunCount;
+    }
+
+    public long getProcessedCount() {
+        return processedCount.sum();
+    }
+
+    private int markChunk(LocalDate today) {
+        List<TaskStatusRow> rows = taskJdbcRepository.lockOverdue(today, chunkSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> ids = new ArrayList<>(rows.size());
+        Deltas deltas = projectTaskCounters.deltas();
+        List<TaskHistoryEvent> events = new ArrayList<>(rows.size());
+        for (TaskStatusRow row : rows) {
+            ids.add(row.id());
+            deltas.replace(new TaskState(row.projectId(), row.status(), row.priority(), row.assigneeId()),
+                    new TaskState(row.projectId(), TaskStatus.OVERDUE, row.priority(), row.assigneeId()));
+            // Changement fait par le système : pas d'auteur
+            events.add(TaskHistoryEvent.of(row.id(), row.projectId(), null, "STATUS", row.status(), TaskStatus.OVERDUE));
+        }
+
+        taskJdbcRepository.markOverdue(ids);
+        projectTaskCounters.apply(deltas);
+        taskHistoryBuffer.submit(events);
+        // Nombre de lignes verrouillées, pour que la boucle sache s'il reste un lot complet
+        return rows.size();
+    }
+}
@@ -0,0 +1,9 @@
+package fr.techcrud.pmt_api.services;
+
+import fr.techcrud.pmt_api.dto.ProjectDashboardDto;
+
+import java.util.UUID;
+
+public interface ProjectDashboardService {
+    public ProjectDashboardDto getDashboard(UUID projectId);
+}
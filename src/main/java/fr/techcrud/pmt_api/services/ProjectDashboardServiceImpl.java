@@ -0,0 +1,64 @@
+package fr.techcrud.pmt_api.services;
+
+import fr.techcrud.pmt_api.dto.ProjectDashboardDto;
+import fr.techcrud.pmt_api.enums.TaskPriority;
+import fr.techcrud.pmt_api.enums.TaskStatus;
+import fr.techcrud.pmt_api.repositories.ProjectRepository;
+import fr.techcrud.pmt_api.repositories.ProjectTaskCounterRepository;
+import fr.techcrud.pmt_api.repositories.ProjectTaskCounterRepository.CounterKey;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+public class ProjectDashboardServiceImpl implements ProjectDashboardService {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectTaskCounterRepository counterRepository;
+
+    public ProjectDashboardServiceImpl(ProjectRepository projectRepository,
+            ProjectTaskCounterRepository counterRepository) {
+        this.projectRepository = projectRepository;
+        this.counterRepository = counterRepository;
+    }
+
+    // Lecture des seuls compteurs du projet : coût indépendant du nombre de tâches
+    @Override
+    public ProjectDashboardDto getDashboard(UUID projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            return null;
+        }
+
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status.name(), 0L);
+        }
+        Map<String, Long> byPriority = new LinkedHashMap<>();
+        for (TaskPriority priority : TaskPriority.values()) {
+            byPriority.put(priority.name(), 0L);
+        }
+        Map<String, Long> assigneeLoad = new LinkedHashMap<>();
+
+        for (Map.Entry<CounterKey, Long> counter : counterRepository.findByProject(projectId, false).entrySet()) {
+            CounterKey key = counter.getKey();
+            switch (key.dimension()) {
+                case ProjectTaskCounterRepository.STATUS -> byStatus.put(key.key(), counter.getValue());
+                case ProjectTaskCounterRepository.PRIORITY -> byPriority.put(key.key(), counter.getValue());
+                case ProjectTaskCounterRepository.ASSIGNEE -> {
+                    if (counter.getValue() > 0) {
+                        assigneeLoad.put(key.key(), counter.getValue());
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+        // "En retard" = statut OVERDUE, posé sur les tâches dont l'échéance est passée
+        long overdue = byStatus.getOrDefault(TaskStatus.OVERDUE.name(), 0L);
+        return new ProjectDashboardDto(projectId, total, byStatus, byPriority, overdue, assigneeLoad);
+    }
+}
@@ -0,0 +1,17 @@
+package fr.techcrud.pmt_api.services;
+
+import fr.techcrud.pmt_api.dto.ProjectMemberDto;
+import fr.techcrud.pmt_api.enums.ProjectRole;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ProjectMemberService {
+    public List<ProjectMemberDto> findByProject(UUID projectId);
+
+    public ProjectMemberDto addMember(UUID projectId, UUID userId, ProjectRole role);
+
+    public ProjectMemberDto changeRole(UUID projectId, UUID userId, ProjectRole role);
+
+    public boolean removeMember(UUID projectId, UUID userId);
+}
@@ -0,0 +1,84 @@
+package fr.techcrud.pmt_api.services;
+
+import fr.techcrud.pmt_api.dto.ProjectMemberDto;
+import fr.techcrud.pmt_api.enums.ProjectRole;
+import fr.techcrud.pmt_api.models.ProjectMember;
+import fr.techcrud.pmt_api.repositories.ProjectMemberRepository;
+import fr.techcrud.pmt_api.repositories.ProjectRepository;
+import fr.techcrud.pmt_api.repositories.userRepository;
+import fr.techcrud.pmt_api.security.ProjectMembershipIndex;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class ProjectMemberServiceImpl implements ProjectMemberService {
+
+    private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectRepository projectRepository;
+    private final userRepository userRepository;
+    private final ProjectMembershipIndex membershipIndex;
+
+    public ProjectMemberServiceImpl(ProjectMemberRepository projectMemberRepository,
+            ProjectRepository projectRepository, userRepository userRepository,
+            ProjectMembershipIndex membershipIndex) {
+        this.projectMemberRepository = projectMemberRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.membershipIndex = membershipIndex;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectMemberDto> findByProject(UUID projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            return null;
+        }
+        return projectMemberRepository.findByProject(projectId);
+    }
+
+    // Ajoute le membre, ou change son rôle s'il l'est déjà
+    @Override
+    @Transactional
+    public ProjectMemberDto addMember(UUID projectId, UUID userId, ProjectRole role) {
+        if (!projectRepository.existsById(projectId) || !userRepository.existsById(userId)) {
+            return null;
+        }
+        ProjectMember member = projectMemberRepository.findMember(projectId, userId).orElseGet(() -> {
+            ProjectMember created = new ProjectMember();
+            created.setProject(projectRepository.getReferenceById(projectId));
+            created.setUser(userRepository.getReferenceById(userId));
+            return created;
+        });
+        member.setRole(role);
+        projectMemberRepository.save(member);
+        membershipIndex.invalidate(userId);
+        return new ProjectMemberDto(projectId, userId, role);
+    }
+
+    @Override
+    @Transactional
+    public ProjectMemberDto changeRole(UUID projectId, UUID userId, ProjectRole role) {
+        ProjectMember member = projectMemberRepository.findMember(projectId, userId).orElse(null);
+        if (member == null) {
+            return null;
+        }
+        member.setRole(role);
+        membershipIndex.invalidate(userId);
+        return new ProjectMemberDto(projectId, userId, role);
+    }
+
+    @Override
+    @Transactional
+    public boolean removeMember(UUID projectId, UUID userId) {
+        ProjectMember member = projectMemberRepository.findMember(projectId, userId).orElse(null);
+        if (member == null) {
+            return false;
+        }
+        projectMemberRepository.delete(member);
+        membershipIndex.invalidate(userId);
+        return true;
+    }
+}
@@ -0,0 +1,78 @@
+package fr.techcrud.pmt_api.services;
+
+import fr.techcrud.pmt_api.repositories.ProjectTaskCounterRepository;
+import fr.techcrud.pmt_api.repositories.ProjectTaskCounterRepository.CounterKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Vérifie périodiquement project_task_counter contre un recalcul depuis task.
+ * Les projets en écart sont journalisés et, si dashboard.reconcile.repair=true, recalculés
+ * sous verrou des lignes de compteurs du projet.
+ */
+@Component
+public class ProjectTaskCounterReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectTaskCounterReconciler.class);
+
+    private final ProjectTaskCounterRepository counterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean repair;
+
+    public ProjectTaskCounterReconciler(ProjectTaskCounterRepository counterRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${dashboard.reconcile.repair:true}") boolean repair) {
+        this.counterRepository = counterRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.repair = repair;
+    }
+
+    @Scheduled(cron = "${dashboard.reconcile.cron:0 30 3 * * *}")
+    public void reconcile() {
+        Set<UUID> drifted = findDriftedProjects(counterRepository.findAll(), counterRepository.computeFromTasks(null));
+        if (drifted.isEmpty()) {
+            log.info("Dashboard counters reconciled: no drift");
+            return;
+        }
+        log.warn("Dashboard counters drift detected on {} project(s): {}", drifted.size(), drifted);
+        if (!repair) {
+            return;
+        }
+
+        for (UUID projectId : drifted) {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Le verrou sur les compteurs du projet bloque les écritures concurrentes le temps du recalcul
+                Map<CounterKey, Long> current = counterRepository.findByProject(projectId, true);
+                Map<CounterKey, Long> expected = counterRepository.computeFromTasks(projectId);
+                if (!findDriftedProjects(current, expected).isEmpty()) {
+                    counterRepository.replaceProject(projectId, expected);
+                    log.info("Dashboard counters repaired for project {}", projectId);
+                }
+            });
+        }
+    }
+
+    private static Set<UUID> findDriftedProjects(Map<CounterKey, Long> current, Map<CounterKey, Long> expected) {
+        Set<UUID> drifted = new HashSet<>();
+        Map<CounterKey, Long> all = new HashMap<>(expected);
+        current.keySet().forEach(key -> all.putIfAbsent(key, 0L));
+        for (CounterKey key : all.keySet()) {
+            long actual = current.getOrDefault(key, 0L);
+            long wanted = expected.getOrDefault(key, 0L);
+            if (actual != wanted) {
+                drifted.add(key.projectId());
+            }
+        }
+        return drifted;
+    }
+}
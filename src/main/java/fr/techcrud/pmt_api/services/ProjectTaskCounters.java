@@ -0,0 +1,89 @@
+package fr.techcrud.pmt_api.services;
+
+import fr.techcrud.pmt_api.enums.TaskPriority;
+import fr.techcrud.pmt_api.enums.TaskStatus;
+import fr.techcrud.pmt_api.models.Task;
+import fr.techcrud.pmt_api.repositories.ProjectTaskCounterRepository;
+import fr.techcrud.pmt_api.repositories.ProjectTaskCounterRepository.CounterKey;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Maintient project_task_counter à partir de l'état des tâches avant / après chaque écriture.
+ * Doit être appelé dans la transaction qui modifie la tâche.
+ */
+@Component
+public class ProjectTaskCounters {
+
+    private final ProjectTaskCounterRepository counterRepository;
+
+    public ProjectTaskCounters(ProjectTaskCounterRepository counterRepository) {
+        this.counterRepository = counterRepository;
+    }
+
+    // Les seuls champs d'une tâche qui comptent pour le tableau de bord
+    public record TaskState(UUID projectId, TaskStatus status, TaskPriority priority, UUID assigneeId) {
+        public static TaskState of(Task task) {
+            return new TaskState(task.getProject().getId(), task.getStatus(), task.getPriority(),
+                    task.getAssignee().getId());
+        }
+    }
+
+    public Deltas deltas() {
+        return new Deltas();
+    }
+
+    public void apply(Deltas deltas) {
+        List<Map.Entry<CounterKey, Long>> changes = new ArrayList<>();
+        for (Map.Entry<CounterKey, Long> entry : deltas.values.entrySet()) {
+            if (entry.getValue() != 0) {
+                changes.add(entry);
+            }
+        }
+        if (!changes.isEmpty()) {
+            counterRepository.increment(changes);
+        }
+    }
+
+    public static class Deltas {
+        // TreeMap : lignes toujours mises à jour dans le même ordre
+        private final TreeMap<CounterKey, Long> values = new TreeMap<>();
+
+        public Deltas add(TaskState state) {
+            return change(state, 1);
+        }
+
+        public Deltas remove(TaskState state) {
+            return change(state, -1);
+        }
+
+        public Deltas replace(TaskState before, TaskState after) {
+            if (!before.equals(after)) {
+                remove(before);
+                add(after);
+            }
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return values.values().stream().allMatch(value -> value == 0);
+        }
+
+        private Deltas change(TaskState state, long delta) {
+            values.merge(new CounterKey(state.projectId(), ProjectTaskCounterRepository.STATUS,
+                    state.status().name()), delta, Long::sum);
+            values.merge(new CounterKey(state.projectId(), ProjectTaskCounterRepository.PRIORITY,
+                    state.priority().name()), delta, Long::sum);
+            if (state.status() != TaskStatus.COMPLETED) {
+                values.merge(new CounterKey(state.projectId(), ProjectTaskCounterRepository.ASSIGNEE,
+                        state.assigneeId().toString()), delta, Long::sum);
+            }
+            return this;
+        }
+    }
+}
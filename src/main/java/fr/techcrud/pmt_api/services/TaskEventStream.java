@@ -0,0 +1,190 @@
+package fr.techcrud.pmt_api.services;
+
+import fr.techcrud.pmt_api.dto.TaskHistoryEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Diffusion SSE des changements de tâches (les mêmes événements que task_history), par projet.
+ * <p>
+ * Chaque abonné a sa file bornée et un thread virtuel qui la vide vers sa connexion : une connexion
+ * ouverte ne coûte pas de thread plateforme, et un client lent ne ralentit ni la publication ni les autres.
+ * Un abonné dont la file déborde est déconnecté (le client se reconnecte et rattrape via l'historique).
+ * Un commentaire de heartbeat est envoyé régulièrement pour garder les connexions ouvertes.
+ * <p>
+ * Seuls les changements faits sur cette instance sont diffusés.
+ */
+@Component
+public class TaskEventStream {
+
+    private static final Object HEARTBEAT = new Object();
+    private static final Object CLOSE = new Object();
+
+    private final Map<UUID, Set<Subscriber>> subscribersByProject = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder droppedSubscribers = new LongAdder();
+
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+
+    public TaskEventStream(@Value("${tasks.events.buffer-size:256}") int bufferSize,
+            @Value("${tasks.events.max-subscribers:10000}") int maxSubscribers,
+            @Value("${tasks.events.timeout-ms:1800000}") long timeoutMs) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeoutMs;
+    }
+
+    // null si la limite d'abonnés de l'instance est atteinte
+    public SseEmitter subscribe(UUID projectId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+        SseEmitter emitter = newEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(projectId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        subscribersByProject.compute(projectId, (id, subscribers) -> {
+            Set<Subscriber> set = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        Thread.ofVirtual().name("sse-" + projectId).start(subscriber::run);
+        return emitter;
+    }
+
+    // Appelé après le commit : ne bloque jamais, quelle que soit la vitesse des abonnés
+    public void publish(List<TaskHistoryEvent> events) {
+        for (TaskHistoryEvent event : events) {
+            Set<Subscriber> subscribers = subscribersByProject.get(event.projectId());
+            if (subscribers == null) {
+                continue;
+            }
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(event);
+            }
+            publishedCount.increment();
+        }
+    }
+
+    @Scheduled(fixedRateString = "${tasks.events.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Set<Subscriber> subscribers : subscribersByProject.values()) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(HEARTBEAT);
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long getPublishedCount() {
+        return publishedCount.sum();
+    }
+
+    public long getDroppedSubscribers() {
+        return droppedSubscribers.sum();
+    }
+
+    // Point d'extension des tests : un émetteur dont on contrôle la vitesse d'envoi et les callbacks
+    protected SseEmitter newEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        for (Set<Subscriber> subscribers : subscribersByProject.values()) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.close();
+            }
+        }
+    }
+
+    private final class Subscriber {
+
+        private final UUID projectId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Object> queue;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(UUID projectId, SseEmitter emitter, BlockingQueue<Object> queue) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        void offer(Object item) {
+            if (!closed.get() && !queue.offer(item)) {
+                droppedSubscribers.increment();
+                close();
+            }
+        }
+
+        void run() {
+            try {
+                while (!closed.get()) {
+                    Object item = queue.take();
+                    if (item == CLOSE) {
+                        break;
+                    }
+                    if (item == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        TaskHistoryEvent event = (TaskHistoryEvent) item;
+                        emitter.send(SseEmitter.event()
+                                .id(event.id().toString())
+                                .name("task-change")
+                                .data(event, MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client parti : la connexion est libérée par close()
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+            }
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            subscribersByProject.computeIfPresent(projectId, (id, subscribers) -> {
+                subscribers.remove(this);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+            subscriberCount.decrementAndGet();
+            // Réveille le thread d'envoi s'il attend : la file peut être pleine, on la vide d'abord
+            queue.clear();
+            queue.offer(CLOSE);
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                // Déjà terminé
+            }
+        }
+    }
+}
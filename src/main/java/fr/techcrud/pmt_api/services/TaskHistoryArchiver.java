@@ -0,0 +1,124 @@
+package fr.techcrud.pmt_api.services;
+
+import fr.techcrud.pmt_api.services.TaskHistoryPartitions.Partition;
+import fr.techcrud.pmt_api.utils.NdjsonResultSetWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Archivage des partitions mensuelles de task_history (voir V7__partition_task_history.sql) : exporte
+ * les partitions plus anciennes que l'horizon de rétention dans un fichier NDJSON gzip local
+ * ({@code task-history.archive.dir}), puis supprime la partition.
+ * <p>
+ * La création des partitions à venir ne dépend pas de ce composant : voir {@link TaskHistoryPartitionScheduler}.
+ * Le verrou de {@link TaskHistoryPartitions} garantit qu'une seule instance de l'API s'en charge à la fois.
+ */
+@Component
+@ConditionalOnProperty(name = "task-history.archive.enabled", havingValue = "true")
+public class TaskHistoryArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskHistoryArchiver.class);
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("p_?[a-z0-9]+");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskHistoryPartitions partitions;
+    private final NdjsonResultSetWriter writer;
+    private final Path archiveDir;
+    private final int retentionMonths;
+    private final int fetchSize;
+
+    private final LongAdder archivedPartitions = new LongAdder();
+    private final LongAdder archivedRows = new LongAdder();
+
+    public TaskHistoryArchiver(JdbcTemplate jdbcTemplate, TaskHistoryPartitions partitions, JsonMapper jsonMapper,
+            @Value("${task-history.archive.dir:archive/task-history}") String archiveDir,
+            @Value("${task-history.archive.retention-months:12}") int retentionMonths,
+            @Value("${export.fetch-size:-2147483648}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitions = partitions;
+        this.writer = new NdjsonResultSetWriter(jsonMapper);
+        this.archiveDir = Paths.get(archiveDir);
+        this.retentionMonths = retentionMonths;
+        this.fetchSize = fetchSize;
+    }
+
+    @Scheduled(cron = "${task-history.archive.cron:0 0 4 * * *}")
+    public void run() {
+        if (!partitions.withLock(this::archiveExpired)) {
+            log.info("Task history archiving skipped: lock held by another instance");
+        }
+    }
+
+    public long getArchivedPartitions() {
+        return archivedPartitions.sum();
+    }
+
+    public long getArchivedRows() {
+        return archivedRows.sum();
+    }
+
+    private void archiveExpired() {
+        // Archivage des partitions entièrement antérieures à l'horizon
+        LocalDate horizon = LocalDate.now().withDayOfMonth(1).minusMonths(retentionMonths);
+        for (Partition partition : partitions.find()) {
+            if (partition.upperBound() != null && !partition.upperBound().isAfter(horizon)) {
+                archive(partition.name());
+            }
+        }
+    }
+
+    private void archive(String partition) {
+        if (!PARTITION_NAME.matcher(partition).matches()) {
+            log.warn("Task history partition {} skipped: unexpected name", partition);
+            return;
+        }
+        String sql = "SELECT id, task_id, modifier_id, change_type, old_value, new_value, modified_at "
+                + "FROM task_history PARTITION (" + partition + ")";
+        Path target = archiveDir.resolve("task_history-" + partition + ".ndjson.gz");
+        Path temp = archiveDir.resolve(target.getFileName() + ".tmp");
+        long rows;
+        try {
+            Files.createDirectories(archiveDir);
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                Long written = jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                            ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(fetchSize);
+                    return statement;
+                }, (ResultSetExtractor<Long>) rs -> writer.write(rs, out));
+                rows = written == null ? 0 : written;
+            }
+            // Le fichier n'apparaît sous son nom final qu'une fois complet
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Task history archive of " + partition + " failed", e);
+        }
+
+        jdbcTemplate.execute("ALTER TABLE task_history DROP PARTITION " + partition);
+        archivedPartitions.increment();
+        archivedRows.add(rows);
+        log.info("Task history partition {} archived to {} ({} rows)", partition, target, rows);
+    }
+}
@@ -0,0 +1,190 @@
+package fr.techcrud.pmt_api.services;
+
+import fr.techcrud.pmt_api.dto.TaskHistoryEvent;
+import fr.techcrud.pmt_api.repositories.TaskHistoryJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Écriture différée (write-behind) de l'historique des tâches.
+ * <p>
+ * Les événements sont mis en file après le commit de la transaction métier, puis écrits par lots JDBC
+ * par un thread dédié : dès que {@code batch-size} événements sont en attente, ou au plus tard
+ * {@code flush-interval-ms} après le premier. La file est bornée : si elle est pleine, l'événement est
+ * abandonné et compté plutôt que de ralentir la requête. Les événements en attente sont écrits à l'arrêt,
+ * qui laisse le flusher finir son lot au lieu de l'interrompre.
+ * Un arrêt brutal du processus perd les événements encore en file.
+ */
+@Component
+public class TaskHistoryBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskHistoryBuffer.class);
+
+    private final TaskHistoryJdbcRepository historyRepository;
+    private final TaskEventStream taskEventStream;
+    private final BlockingQueue<TaskHistoryEvent> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder flushCount = new LongAdder();
+    private final LongAdder flushNanos = new LongAdder();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public TaskHistoryBuffer(TaskHistoryJdbcRepository historyRepository, TaskEventStream taskEventStream,
+            @Value("${task-history.buffer.capacity:10000}") int capacity,
+            @Value("${task-history.buffer.batch-size:500}") int batchSize,
+            @Value("${task-history.buffer.flush-interval-ms:200}") long flushIntervalMs) {
+        this.historyRepository = historyRepository;
+        this.taskEventStream = taskEventStream;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = new Thread(this::run, "task-history-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    // Mis en file et diffusé au commit : un rollback ne laisse pas d'historique orphelin
+    public void submit(List<TaskHistoryEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(events);
+                    taskEventStream.publish(events);
+                }
+            });
+        } else {
+            enqueue(events);
+            taskEventStream.publish(events);
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    public long getFlushNanos() {
+        return flushNanos.sum();
+    }
+
+    private void enqueue(List<TaskHistoryEvent> events) {
+        for (TaskHistoryEvent event : events) {
+            if (!queue.offer(event)) {
+                droppedCount.increment();
+            }
+        }
+    }
+
+    private void run() {
+        List<TaskHistoryEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                TaskHistoryEvent first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    TaskHistoryEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                // Le lot déjà retiré de la file n'y est plus : on l'écrit avant de sortir. L'exception a effacé
+                // le drapeau d'interruption, Hikari accepte donc la connexion ; on le repositionne ensuite
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                    batch.clear();
+                }
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    private void flush(List<TaskHistoryEvent> batch) {
+        long start = System.nanoTime();
+        try {
+            historyRepository.insertBatch(batch);
+            writtenCount.add(batch.size());
+        } catch (RuntimeException e) {
+            // Un lot rejeté (ex. tâche supprimée entre-temps) : on réessaie ligne par ligne pour ne perdre que les fautives
+            log.warn("Task history batch of {} failed, retrying row by row", batch.size(), e);
+            for (TaskHistoryEvent event : batch) {
+                try {
+                    historyRepository.insert(event);
+                    writtenCount.increment();
+                } catch (RuntimeException rowError) {
+                    droppedCount.increment();
+                }
+            }
+        } finally {
+            flushCount.increment();
+            flushNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    // Arrêt coopératif : pas d'interruption, le flusher termine son lot en cours (au plus flush-interval-ms d'attente)
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        if (flusher.isAlive()) {
+            log.warn("Task history flusher still busy after 10s, draining the queue from the shutdown thread");
+        }
+
+        List<TaskHistoryEvent> pending = new ArrayList<>(batchSize);
+        while (queue.drainTo(pending, batchSize) > 0) {
+            flush(pending);
+            pending.clear();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package fr.techcrud.pmt_api.services;
+
+import fr.techcrud.pmt_api.dto.TaskHistoryEvent;
+import fr.techcrud.pmt_api.models.Task;
+import fr.techcrud.pmt_api.models.User;
+import fr.techcrud.pmt_api.security.AuthenticatedUser;
+import fr.techcrud.pmt_api.security.CurrentUser;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Génère l'historique des tâches à partir des changements détectés par Hibernate.
+ * <p>
+ * Au flush, Hibernate connaît déjà l'ancien état, le nouvel état et les propriétés modifiées d'une
+ * {@link Task} : on en tire une ligne par champ suivi qui a changé, sans relire la tâche, plus une ligne
+ * CREATED / DELETED à la création et à la suppression. Les lignes partent dans le {@link TaskHistoryBuffer},
+ * qui ne les écrit qu'après le commit.
+ */
+@Component
+public class TaskHistoryListener implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener {
+
+    static final String CREATED = "CREATED";
+    static final String DELETED = "DELETED";
+
+    // Propriété de Task -> change_type
+    private static final Map<String, String> TRACKED = Map.of(
+            "status", "STATUS",
+            "assignee", "ASSIGNEE",
+            "priority", "PRIORITY",
+            "dueDate", "DUE_DATE",
+            "name", "NAME",
+            "description", "DESCRIPTION");
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final TaskHistoryBuffer taskHistoryBuffer;
+
+    public TaskHistoryListener(EntityManagerFactory entityManagerFactory, TaskHistoryBuffer taskHistoryBuffer) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.taskHistoryBuffer = taskHistoryBuffer;
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Task task) {
+            taskHistoryBuffer.submit(List.of(TaskHistoryEvent.of((UUID) event.getId(), task.getProject().getId(),
+                    modifierId(), CREATED, null, task.getName())));
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Task task) {
+            taskHistoryBuffer.submit(List.of(TaskHistoryEvent.of((UUID) event.getId(), task.getProject().getId(),
+                    modifierId(), DELETED, task.getName(), null)));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Task task)) {
+            return;
+        }
+        int[] dirty = event.getDirtyProperties();
+        Object[] oldState = event.getOldState();
+        // Sans ancien état (entité détachée puis fusionnée) il n'y a rien à comparer
+        if (dirty == null || oldState == null) {
+            return;
+        }
+        UUID projectId = task.getProject().getId();
+        UUID modifierId = modifierId();
+
+        String[] propertyNames = event.getPersister().getPropertyNames();
+        Object[] state = event.getState();
+        List<TaskHistoryEvent> events = new ArrayList<>(dirty.length);
+        for (int index : dirty) {
+            String changeType = TRACKED.get(propertyNames[index]);
+            if (changeType == null) {
+                continue;
+            }
+            Object oldValue = valueOf(oldState[index]);
+            Object newValue = valueOf(state[index]);
+            if (!Objects.equals(oldValue, newValue)) {
+                events.add(TaskHistoryEvent.of((UUID) event.getId(), projectId, modifierId, changeType,
+                        oldValue, newValue));
+            }
+        }
+        taskHistoryBuffer.submit(events);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    // Hors requête authentifiée (tâches planifiées), le changement n'a pas d'auteur
+    private static UUID modifierId() {
+        AuthenticatedUser modifier = CurrentUser.get();
+        return modifier == null ? null : modifier.id();
+    }
+
+    // Pour une association on garde l'identifiant, lu sur le proxy sans l'initialiser
+    private static Object valueOf(Object value) {
+        if (value instanceof HibernateProxy proxy) {
+            return proxy.getHibernateLazyInitializer().getIdentifier();
+        }
+        if (value instanceof User user) {
+            return user.getId();
+        }
+        return value;
+    }
+}
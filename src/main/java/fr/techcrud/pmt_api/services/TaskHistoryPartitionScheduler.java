@@ -0,0 +1,75 @@
+package fr.techcrud.pmt_api.services;
+
+import fr.techcrud.pmt_api.services.TaskHistoryPartitions.Partition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Crée à l'avance les partitions mensuelles de task_history en découpant p_future, pour que les
+ * {@code task-history.partitions.months-ahead} prochains mois aient toujours la leur.
+ * <p>
+ * Toujours actif, indépendamment de l'archivage ({@code task-history.archive.enabled}) : sans lui, les
+ * nouvelles lignes finiraient dans p_future et l'élagage par partition ne servirait plus sur l'historique récent.
+ */
+@Component
+public class TaskHistoryPartitionScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskHistoryPartitionScheduler.class);
+
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskHistoryPartitions partitions;
+    private final int monthsAhead;
+
+    private final LongAdder createdPartitions = new LongAdder();
+
+    public TaskHistoryPartitionScheduler(JdbcTemplate jdbcTemplate, TaskHistoryPartitions partitions,
+            @Value("${task-history.partitions.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitions = partitions;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @Scheduled(cron = "${task-history.partitions.cron:0 0 3 * * *}")
+    public void run() {
+        if (!partitions.withLock(this::createAhead)) {
+            log.info("Task history partition creation skipped: lock held by another instance");
+        }
+    }
+
+    public long getCreatedPartitions() {
+        return createdPartitions.sum();
+    }
+
+    private void createAhead() {
+        List<Partition> existing = partitions.find();
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+
+        LocalDate lastBound = existing.stream()
+                .map(Partition::upperBound)
+                .filter(bound -> bound != null)
+                .max(LocalDate::compareTo)
+                .orElse(currentMonth);
+        LocalDate target = currentMonth.plusMonths(monthsAhead + 1L);
+        while (lastBound.isBefore(target)) {
+            LocalDate next = lastBound.plusMonths(1);
+            jdbcTemplate.execute("ALTER TABLE task_history REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO ("
+                    + "PARTITION p" + lastBound.format(MONTH) + " VALUES LESS THAN ('" + next + "'), "
+                    + "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+            createdPartitions.increment();
+            log.info("Task history partition p{} created", lastBound.format(MONTH));
+            lastBound = next;
+        }
+    }
+}
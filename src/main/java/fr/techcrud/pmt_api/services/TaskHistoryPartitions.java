@@ -0,0 +1,82 @@
+package fr.techcrud.pmt_api.services;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Accès aux partitions mensuelles de task_history (voir V7__partition_task_history.sql), partagé par
+ * {@link TaskHistoryPartitionScheduler} (création) et {@link TaskHistoryArchiver} (archivage).
+ * Les deux prennent le même verrou nommé MySQL (GET_LOCK) : un seul DDL de partition à la fois, toutes
+ * instances de l'API confondues.
+ */
+@Component
+public class TaskHistoryPartitions {
+
+    private static final String LOCK_NAME = "pmt_api.task_history_partitions";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskHistoryPartitions(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // false si une autre instance tient le verrou : l'action n'est pas exécutée
+    public boolean withLock(Runnable action) {
+        // Le verrou appartient à la session : on garde cette connexion jusqu'à RELEASE_LOCK
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) lockConnection -> {
+            if (!acquireLock(lockConnection)) {
+                return false;
+            }
+            try {
+                action.run();
+            } finally {
+                releaseLock(lockConnection);
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    public List<Partition> find() {
+        return jdbcTemplate.query("SELECT partition_name, partition_description FROM information_schema.partitions "
+                + "WHERE table_schema = DATABASE() AND table_name = 'task_history' AND partition_name IS NOT NULL "
+                + "ORDER BY partition_ordinal_position",
+                (rs, rowNum) -> new Partition(rs.getString(1), parseBound(rs.getString(2))));
+    }
+
+    // RANGE COLUMNS sur un DATETIME : '2026-11-01 00:00:00', ou MAXVALUE pour p_future
+    private static LocalDate parseBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        return LocalDate.parse(description.replace("'", "").substring(0, 10));
+    }
+
+    private static boolean acquireLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            statement.setString(1, LOCK_NAME);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void releaseLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, LOCK_NAME);
+            statement.execute();
+        }
+    }
+
+    // upperBound : borne exclusive, null pour p_future (MAXVALUE)
+    public record Partition(String name, LocalDate upperBound) {
+    }
+}
@@ -0,0 +1,480 @@
+package fr.techcrud.pmt_api.services;
+
+import fr.techcrud.pmt_api.dto.TaskSearchHitDto;
+import fr.techcrud.pmt_api.models.Task;
+import fr.techcrud.pmt_api.utils.Uuids;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Index inversé en mémoire sur le nom et la description des tâches, un index par projet.
+ * <p>
+ * Construit au démarrage depuis la table task, puis tenu à jour au commit des créations, modifications
+ * et suppressions de tâches (événements Hibernate). Une recherche ne lit que les listes des termes demandés
+ * dans les projets visés : son coût ne dépend pas de la taille de la table. Classement BM25, un terme du
+ * nom comptant plus qu'un terme de la description ; les statistiques du corpus (nombre de tâches, longueur
+ * moyenne, fréquence des termes) portent sur l'ensemble des projets recherchés, pour que les scores de
+ * projets différents soient comparables.
+ * <p>
+ * L'index est propre à chaque instance : les tâches modifiées par une autre instance n'y apparaissent
+ * qu'après une reconstruction ({@link #rebuild()}).
+ */
+@Component
+public class TaskSearchIndex implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final int NAME_WEIGHT = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    private volatile Map<UUID, ProjectIndex> projects = new ConcurrentHashMap<>();
+
+    // Changements reçus pendant une reconstruction, rejoués sur le nouvel index avant la bascule
+    // ReentrantLock plutôt que synchronized : pris depuis des threads virtuels (after-commit des requêtes)
+    private final ReentrantLock swapLock = new ReentrantLock();
+    private List<Change> pendingDuringRebuild;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile long lastRebuildMillis;
+
+    public TaskSearchIndex(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate,
+            @Value("${search.index.fetch-size:-2147483648}") int fetchSize) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    // Relit toutes les tâches ; -1 si une reconstruction est déjà en cours
+    public int rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return -1;
+        }
+        try {
+            swapLock.lock();
+            try {
+                pendingDuringRebuild = new ArrayList<>();
+            } finally {
+                swapLock.unlock();
+            }
+            long start = System.nanoTime();
+            Map<UUID, ProjectIndex> fresh = new ConcurrentHashMap<>();
+            int[] count = { 0 };
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        "SELECT id, project_id, name, description FROM task",
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, (RowCallbackHandler) rs -> {
+                UUID projectId = Uuids.fromBytes(rs.getBytes(2));
+                fresh.computeIfAbsent(projectId, id -> new ProjectIndex())
+                        .put(Uuids.fromBytes(rs.getBytes(1)), rs.getString(3), rs.getString(4));
+                count[0]++;
+            });
+
+            swapLock.lock();
+            try {
+                for (Change change : pendingDuringRebuild) {
+                    apply(fresh, change);
+                }
+                projects = fresh;
+                pendingDuringRebuild = null;
+            } finally {
+                swapLock.unlock();
+            }
+            lastRebuildMillis = (System.nanoTime() - start) / 1_000_000;
+            log.info("Task search index built: {} task(s) in {} project(s), {} ms", count[0], fresh.size(),
+                    lastRebuildMillis);
+            return count[0];
+        } finally {
+            swapLock.lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                swapLock.unlock();
+            }
+            rebuilding.set(false);
+        }
+    }
+
+    // projectIds null : tous les projets
+    public List<TaskSearchHitDto> search(Collection<UUID> projectIds, String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, ProjectIndex> current = projects;
+        Collection<UUID> scope = projectIds == null ? current.keySet() : projectIds;
+
+        // Premier passage : statistiques BM25 sur toute la portée, sinon un terme rare dans un petit projet
+        // l'emporterait sur le même terme dans un gros projet. Une modification entre les deux passages
+        // ne décale les scores que de cette tâche.
+        Map<UUID, ProjectIndex> targets = new LinkedHashMap<>();
+        long[] documentFrequencies = new long[terms.size()];
+        long documents = 0;
+        long totalLength = 0;
+        for (UUID projectId : scope) {
+            ProjectIndex index = current.get(projectId);
+            if (index != null) {
+                targets.put(projectId, index);
+                ProjectIndex.Corpus corpus = index.collect(terms, documentFrequencies);
+                documents += corpus.documents();
+                totalLength += corpus.totalLength();
+            }
+        }
+        if (documents == 0) {
+            return List.of();
+        }
+        double averageLength = Math.max(1.0, (double) totalLength / documents);
+        double[] idf = new double[terms.size()];
+        for (int i = 0; i < idf.length; i++) {
+            idf[i] = Math.log(1 + (documents - documentFrequencies[i] + 0.5) / (documentFrequencies[i] + 0.5));
+        }
+
+        PriorityQueue<TaskSearchHitDto> top = new PriorityQueue<>(
+                Comparator.comparingDouble(TaskSearchHitDto::getScore));
+        for (Map.Entry<UUID, ProjectIndex> target : targets.entrySet()) {
+            target.getValue().search(target.getKey(), terms, idf, averageLength, limit, top);
+        }
+        List<TaskSearchHitDto> hits = new ArrayList<>(top);
+        hits.sort(Comparator.comparingDouble(TaskSearchHitDto::getScore).reversed());
+        return hits;
+    }
+
+    // Sans verrou ni parcours des listes : lu par la jauge de métriques à chaque collecte
+    public long taskCount() {
+        long tasks = 0;
+        for (ProjectIndex index : projects.values()) {
+            tasks += index.documentCount;
+        }
+        return tasks;
+    }
+
+    // Parcourt toutes les listes sous verrou de lecture : pour l'endpoint d'administration, pas pour les métriques
+    public Map<String, Object> stats() {
+        Map<UUID, ProjectIndex> current = projects;
+        long tasks = 0;
+        long terms = 0;
+        long postings = 0;
+        for (ProjectIndex index : current.values()) {
+            ProjectIndex.Size size = index.size();
+            tasks += size.tasks();
+            terms += size.terms();
+            postings += size.postings();
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("projects", current.size());
+        stats.put("tasks", tasks);
+        stats.put("terms", terms);
+        stats.put("postings", postings);
+        stats.put("lastRebuildMillis", lastRebuildMillis);
+        stats.put("rebuilding", rebuilding.get());
+        return stats;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Task task) {
+            afterCommit(new Change(task.getProject().getId(), (UUID) event.getId(), task.getName(),
+                    task.getDescription(), false));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Task task)) {
+            return;
+        }
+        // Seuls le nom et la description sont indexés
+        int[] dirty = event.getDirtyProperties();
+        if (dirty != null) {
+            String[] names = event.getPersister().getPropertyNames();
+            boolean indexedFieldChanged = false;
+            for (int index : dirty) {
+                if (names[index].equals("name") || names[index].equals("description")) {
+                    indexedFieldChanged = true;
+                    break;
+                }
+            }
+            if (!indexedFieldChanged) {
+                return;
+            }
+        }
+        afterCommit(new Change(task.getProject().getId(), (UUID) event.getId(), task.getName(),
+                task.getDescription(), false));
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Task task) {
+            afterCommit(new Change(task.getProject().getId(), (UUID) event.getId(), null, null, true));
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void afterCommit(Change change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    onChange(change);
+                }
+            });
+        } else {
+            onChange(change);
+        }
+    }
+
+    private void onChange(Change change) {
+        Map<UUID, ProjectIndex> current;
+        swapLock.lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+            current = projects;
+        } finally {
+            swapLock.unlock();
+        }
+        apply(current, change);
+    }
+
+    private static void apply(Map<UUID, ProjectIndex> target, Change change) {
+        if (change.deleted()) {
+            ProjectIndex index = target.get(change.projectId());
+            if (index != null) {
+                index.remove(change.taskId());
+            }
+        } else {
+            target.computeIfAbsent(change.projectId(), id -> new ProjectIndex())
+                    .put(change.taskId(), change.name(), change.description());
+        }
+    }
+
+    // Minuscules, sans accents, découpé sur tout ce qui n'est ni lettre ni chiffre, termes d'au moins 2 caractères
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(normalized)) {
+            if (token.length() >= 2) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private record Change(UUID projectId, UUID taskId, String name, String description, boolean deleted) {
+    }
+
+    private static final class ProjectIndex {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        // terme -> tâche -> occurrences
+        private final Map<String, Map<UUID, Posting>> postings = new HashMap<>();
+        private final Map<UUID, Doc> docs = new HashMap<>();
+        private long totalLength;
+        // Copie de docs.size(), mise à jour sous le verrou d'écriture et lue sans verrou
+        private volatile int documentCount;
+
+        void put(UUID taskId, String name, String description) {
+            List<String> nameTerms = tokenize(name);
+            List<String> descriptionTerms = tokenize(description);
+            Map<String, Posting> termPostings = new HashMap<>();
+            for (String term : nameTerms) {
+                termPostings.merge(term, new Posting(1, 0), Posting::plus);
+            }
+            for (String term : descriptionTerms) {
+                termPostings.merge(term, new Posting(0, 1), Posting::plus);
+            }
+            int length = NAME_WEIGHT * nameTerms.size() + descriptionTerms.size();
+
+            lock.writeLock().lock();
+            try {
+                removeLocked(taskId);
+                for (Map.Entry<String, Posting> entry : termPostings.entrySet()) {
+                    postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(taskId, entry.getValue());
+                }
+                docs.put(taskId, new Doc(name, Set.copyOf(termPostings.keySet()), length));
+                totalLength += length;
+                documentCount = docs.size();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(UUID taskId) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(taskId);
+                documentCount = docs.size();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void removeLocked(UUID taskId) {
+            Doc doc = docs.remove(taskId);
+            if (doc == null) {
+                return;
+            }
+            totalLength -= doc.length();
+            for (String term : doc.terms()) {
+                Map<UUID, Posting> list = postings.get(term);
+                if (list != null) {
+                    list.remove(taskId);
+                    if (list.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+
+        // Ajoute la fréquence de chaque terme dans ce projet à documentFrequencies
+        Corpus collect(List<String> terms, long[] documentFrequencies) {
+            lock.readLock().lock();
+            try {
+                for (int i = 0; i < terms.size(); i++) {
+                    Map<UUID, Posting> list = postings.get(terms.get(i));
+                    if (list != null) {
+                        documentFrequencies[i] += list.size();
+                    }
+                }
+                return new Corpus(docs.size(), totalLength);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // idf et averageLength : statistiques de toute la portée de la recherche, pas de ce seul projet
+        void search(UUID projectId, List<String> terms, double[] idf, double averageLength, int limit,
+                PriorityQueue<TaskSearchHitDto> top) {
+            lock.readLock().lock();
+            try {
+                Map<UUID, Double> scores = new HashMap<>();
+                for (int i = 0; i < terms.size(); i++) {
+                    Map<UUID, Posting> list = postings.get(terms.get(i));
+                    if (list == null) {
+                        continue;
+                    }
+                    double termIdf = idf[i];
+                    for (Map.Entry<UUID, Posting> entry : list.entrySet()) {
+                        Posting posting = entry.getValue();
+                        double tf = NAME_WEIGHT * posting.nameCount() + posting.descriptionCount();
+                        double length = docs.get(entry.getKey()).length();
+                        double weight = tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / averageLength));
+                        scores.merge(entry.getKey(), termIdf * weight, Double::sum);
+                    }
+                }
+                for (Map.Entry<UUID, Double> score : scores.entrySet()) {
+                    if (top.size() < limit || score.getValue() > top.peek().getScore()) {
+                        top.add(new TaskSearchHitDto(score.getKey(), projectId, docs.get(score.getKey()).name(),
+                                score.getValue()));
+                        if (top.size() > limit) {
+                            top.poll();
+                        }
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        Size size() {
+            lock.readLock().lock();
+            try {
+                long postingCount = 0;
+                for (Map<UUID, Posting> list : postings.values()) {
+                    postingCount += list.size();
+                }
+                return new Size(docs.size(), postings.size(), postingCount);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        record Size(int tasks, int terms, long postings) {
+        }
+
+        record Corpus(int documents, long totalLength) {
+        }
+
+        private record Posting(int nameCount, int descriptionCount) {
+            Posting plus(Posting other) {
+                return new Posting(nameCount + other.nameCount, descriptionCount + other.descriptionCount);
+            }
+        }
+
+        private record Doc(String name, Set<String> terms, int length) {
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package fr.techcrud.pmt_api.services;
+
+import fr.techcrud.pmt_api.dto.BulkTaskOperationDto;
+import fr.techcrud.pmt_api.dto.BulkTaskResultDto;
+import fr.techcrud.pmt_api.dto.CursorPageDto;
+import fr.techcrud.pmt_api.dto.TaskHistoryDto;
+import fr.techcrud.pmt_api.dto.TaskRequestDto;
+import fr.techcrud.pmt_api.dto.TaskResponseDto;
+import fr.techcrud.pmt_api.dto.TaskSummaryDto;
+import fr.techcrud.pmt_api.enums.TaskPriority;
+import fr.techcrud.pmt_api.enums.TaskStatus;
+import fr.techcrud.pmt_api.utils.TaskCursor;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TaskService {
+    public CursorPageDto<TaskSummaryDto> findByProject(UUID projectId, TaskStatus status, TaskPriority priority,
+            UUID assigneeId, TaskCursor cursor, int size);
+
+    public TaskResponseDto findById(UUID id);
+
+    public UUID findProjectId(UUID taskId);
+
+    public Long findVersion(UUID id);
+
+    public List<TaskHistoryDto> findRecentHistory(UUID taskId, int days, int limit);
+
+    public TaskResponseDto create(UUID projectId, TaskRequestDto task);
+
+    public TaskResponseDto update(UUID id, TaskRequestDto task, Long expectedVersion);
+
+    public boolean delete(UUID id);
+
+    public BulkTaskResultDto bulk(UUID projectId, List<BulkTaskOperationDto> operations);
+}
@@ -0,0 +1,319 @@
+package fr.techcrud.pmt_api.services;
+
+import fr.techcrud.pmt_api.dto.BulkTaskItemResultDto;
+import fr.techcrud.pmt_api.dto.BulkTaskOperationDto;
+import fr.techcrud.pmt_api.dto.BulkTaskResultDto;
+import fr.techcrud.pmt_api.dto.CursorPageDto;
+import fr.techcrud.pmt_api.dto.TaskHistoryDto;
+import fr.techcrud.pmt_api.dto.TaskRequestDto;
+import fr.techcrud.pmt_api.dto.TaskResponseDto;
+import fr.techcrud.pmt_api.dto.TaskSummaryDto;
+import fr.techcrud.pmt_api.enums.BulkOperationType;
+import fr.techcrud.pmt_api.enums.TaskPriority;
+import fr.techcrud.pmt_api.enums.TaskStatus;
+import fr.techcrud.pmt_api.models.Task;
+import fr.techcrud.pmt_api.repositories.ProjectRepository;
+import fr.techcrud.pmt_api.repositories.TaskHistoryRepository;
+import fr.techcrud.pmt_api.repositories.TaskRepository;
+import fr.techcrud.pmt_api.repositories.userRepository;
+import fr.techcrud.pmt_api.services.ProjectTaskCounters.Deltas;
+import fr.techcrud.pmt_api.services.ProjectTaskCounters.TaskState;
+import fr.techcrud.pmt_api.utils.TaskCursor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+public class TaskServiceImpl implements TaskService {
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final userRepository userRepository;
+    private final TaskHistoryRepository taskHistoryRepository;
+    private final ProjectTaskCounters projectTaskCounters;
+
+    public TaskServiceImpl(TaskRepository taskRepository, ProjectRepository projectRepository,
+            userRepository userRepository, TaskHistoryRepository taskHistoryRepository,
+            ProjectTaskCounters projectTaskCounters) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.taskHistoryRepository = taskHistoryRepository;
+        this.projectTaskCounters = projectTaskCounters;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<TaskSummaryDto> findByProject(UUID projectId, TaskStatus status, TaskPriority priority,
+            UUID assigneeId, TaskCursor cursor, int size) {
+        // On lit une ligne de plus pour savoir s'il existe une page suivante
+        List<TaskSummaryDto> rows = new ArrayList<>(size + 1);
+
+        // 1. Tâches avec échéance, par (due_date, id)
+        boolean inDatedTasks = cursor == null || cursor.dueDate() != null;
+        if (inDatedTasks) {
+            PageRequest limit = PageRequest.ofSize(size + 1);
+            rows.addAll(cursor == null
+                    ? taskRepository.findDated(projectId, status, priority, assigneeId, limit)
+                    : taskRepository.findDatedAfter(projectId, status, priority, assigneeId, cursor.dueDate(),
+                            cursor.id(), limit));
+        }
+
+        // 2. Puis les tâches sans échéance, par id, si la page n'est pas pleine
+        if (rows.size() <= size) {
+            PageRequest limit = PageRequest.ofSize(size + 1 - rows.size());
+            rows.addAll(inDatedTasks
+                    ? taskRepository.findUndated(projectId, status, priority, assigneeId, limit)
+                    : taskRepository.findUndatedAfter(projectId, status, priority, assigneeId, cursor.id(), limit));
+        }
+
+        if (rows.size() <= size) {
+            return new CursorPageDto<>(rows, null);
+        }
+        List<TaskSummaryDto> page = rows.subList(0, size);
+        TaskSummaryDto last = page.get(size - 1);
+        return new CursorPageDto<>(page, new TaskCursor(last.getDueDate(), last.getId()).encode());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskResponseDto findById(UUID id) {
+        return taskRepository.findDetailById(id).orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UUID findProjectId(UUID taskId) {
+        return taskRepository.findProjectIdById(taskId).orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Long findVersion(UUID id) {
+        return taskRepository.findVersionById(id).orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskHistoryDto> findRecentHistory(UUID taskId, int days, int limit) {
+        if (!taskRepository.existsById(taskId)) {
+            return null;
+        }
+        return taskHistoryRepository.findRecent(taskId, LocalDateTime.now().minusDays(days),
+                PageRequest.ofSize(limit));
+    }
+
+    @Override
+    @Transactional
+    public TaskResponseDto create(UUID projectId, TaskRequestDto taskData) {
+        if (!projectRepository.existsById(projectId) || taskData.getAssigneeId() == null
+                || !userRepository.existsById(taskData.getAssigneeId())) {
+            return null;
+        }
+
+        Task saved = taskRepository.save(newTask(projectId, taskData));
+        projectTaskCounters.apply(projectTaskCounters.deltas().add(TaskState.of(saved)));
+        return toResponse(saved, projectId, taskData.getAssigneeId());
+    }
+
+    @Override
+    @Transactional
+    public TaskResponseDto update(UUID id, TaskRequestDto taskData, Long expectedVersion) {
+        Task task = taskRepository.findById(id).orElse(null);
+        if (task == null) {
+            return null;
+        }
+        // If-Match : la version lue doit être celle attendue ; une écriture concurrente est détectée au flush
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Task.class, id);
+        }
+        if (taskData.getAssigneeId() != null && !userRepository.existsById(taskData.getAssigneeId())) {
+            return null;
+        }
+
+        TaskState before = TaskState.of(task);
+        applyChanges(task, taskData);
+        TaskState after = TaskState.of(task);
+        projectTaskCounters.apply(projectTaskCounters.deltas().replace(before, after));
+        // Flush avant la réponse : la version renvoyée (et l'ETag) est celle après mise à jour
+        taskRepository.flush();
+        return toResponse(task, after.projectId(), after.assigneeId());
+    }
+
+    @Override
+    @Transactional
+    public BulkTaskResultDto bulk(UUID projectId, List<BulkTaskOperationDto> operations) {
+        // Deux requêtes pour tout le lot : les tâches visées et les assignés existants
+        Set<UUID> taskIds = new HashSet<>();
+        Set<UUID> assigneeIds = new HashSet<>();
+        for (BulkTaskOperationDto operation : operations) {
+            if (operation.getId() != null) {
+                taskIds.add(operation.getId());
+            }
+            if (operation.getTask() != null && operation.getTask().getAssigneeId() != null) {
+                assigneeIds.add(operation.getTask().getAssigneeId());
+            }
+        }
+        Map<UUID, Task> tasks = new HashMap<>();
+        for (Task task : taskRepository.findAllById(taskIds)) {
+            if (task.getProject().getId().equals(projectId)) {
+                tasks.put(task.getId(), task);
+            }
+        }
+        Set<UUID> knownAssignees = assigneeIds.isEmpty() ? Set.of() : userRepository.findExistingIds(assigneeIds);
+
+        List<BulkTaskItemResultDto> results = new ArrayList<>(operations.size());
+        Deltas deltas = projectTaskCounters.deltas();
+        boolean failed = false;
+        for (int index = 0; index < operations.size(); index++) {
+            BulkTaskOperationDto operation = operations.get(index);
+            BulkTaskItemResultDto result = applyOperation(index, operation, projectId, tasks, knownAssignees,
+                    deltas);
+            failed |= !result.isSuccess();
+            results.add(result);
+        }
+
+        if (failed) {
+            // Tout ou rien : les résultats disent quelles opérations empêchent le lot
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return new BulkTaskResultDto(false, results);
+        }
+        // Les INSERT / UPDATE / DELETE partent en lots JDBC au flush (hibernate.jdbc.batch_size)
+        projectTaskCounters.apply(deltas);
+        return new BulkTaskResultDto(true, results);
+    }
+
+    @Override
+    @Transactional
+    public boolean delete(UUID id) {
+        Task task = taskRepository.findById(id).orElse(null);
+        if (task == null) {
+            return false;
+        }
+        // L'historique est un journal d'audit : il survit à la suppression de la tâche
+        taskRepository.delete(task);
+        projectTaskCounters.apply(projectTaskCounters.deltas().remove(TaskState.of(task)));
+        return true;
+    }
+
+    private BulkTaskItemResultDto applyOperation(int index, BulkTaskOperationDto operation, UUID projectId,
+            Map<UUID, Task> tasks, Set<UUID> knownAssignees, Deltas deltas) {
+        BulkOperationType op = operation.getOp();
+        TaskRequestDto data = operation.getTask();
+        if (op == null) {
+            return BulkTaskItemResultDto.failed(index, null, operation.getId(), "op is required");
+        }
+        if (op != BulkOperationType.CREATE && operation.getId() == null) {
+            return BulkTaskItemResultDto.failed(index, op, null, "id is required");
+        }
+        if (op != BulkOperationType.DELETE && data == null) {
+            return BulkTaskItemResultDto.failed(index, op, operation.getId(), "task is required");
+        }
+        if (data != null && data.getAssigneeId() != null && !knownAssignees.contains(data.getAssigneeId())) {
+            return BulkTaskItemResultDto.failed(index, op, operation.getId(), "Assignee not found");
+        }
+
+        switch (op) {
+            case CREATE -> {
+                if (data.getName() == null || data.getName().isBlank()) {
+                    return BulkTaskItemResultDto.failed(index, op, null, "Task name is required");
+                }
+                if (data.getAssigneeId() == null) {
+                    return BulkTaskItemResultDto.failed(index, op, null, "assigneeId is required");
+                }
+                Task task = newTask(projectId, data);
+                taskRepository.save(task);
+                tasks.put(task.getId(), task);
+                deltas.add(TaskState.of(task));
+                return BulkTaskItemResultDto.ok(index, op, task.getId());
+            }
+            case UPDATE -> {
+                Task task = tasks.get(operation.getId());
+                if (task == null) {
+                    return BulkTaskItemResultDto.failed(index, op, operation.getId(), "Task not found");
+                }
+                if (data.getName() != null && data.getName().isBlank()) {
+                    return BulkTaskItemResultDto.failed(index, op, task.getId(), "Task name must not be blank");
+                }
+                TaskState before = TaskState.of(task);
+                applyChanges(task, data);
+                deltas.replace(before, TaskState.of(task));
+                return BulkTaskItemResultDto.ok(index, op, task.getId());
+            }
+            default -> {
+                Task task = tasks.remove(operation.getId());
+                if (task == null) {
+                    return BulkTaskItemResultDto.failed(index, op, operation.getId(), "Task not found");
+                }
+                taskRepository.delete(task);
+                deltas.remove(TaskState.of(task));
+                return BulkTaskItemResultDto.ok(index, op, task.getId());
+            }
+        }
+    }
+
+    private Task newTask(UUID projectId, TaskRequestDto taskData) {
+        Task task = new Task();
+        task.setProject(projectRepository.getReferenceById(projectId));
+        task.setAssignee(userRepository.getReferenceById(taskData.getAssigneeId()));
+        task.setName(taskData.getName());
+        task.setDescription(taskData.getDescription());
+        task.setStatus(taskData.getStatus() != null ? taskData.getStatus() : TaskStatus.TODO);
+        task.setPriority(taskData.getPriority() != null ? taskData.getPriority() : TaskPriority.MEDIUM);
+        task.setDueDate(taskData.getDueDate());
+        task.setCompletionDate(taskData.getCompletionDate());
+        applyCompletion(task);
+        return task;
+    }
+
+    // Mise à jour partielle : seuls les champs fournis sont modifiés
+    private void applyChanges(Task task, TaskRequestDto taskData) {
+        if (taskData.getAssigneeId() != null) {
+            task.setAssignee(userRepository.getReferenceById(taskData.getAssigneeId()));
+        }
+        if (taskData.getName() != null) {
+            task.setName(taskData.getName());
+        }
+        if (taskData.getDescription() != null) {
+            task.setDescription(taskData.getDescription());
+        }
+        if (taskData.getStatus() != null) {
+            task.setStatus(taskData.getStatus());
+        }
+        if (taskData.getPriority() != null) {
+            task.setPriority(taskData.getPriority());
+        }
+        if (taskData.getDueDate() != null) {
+            task.setDueDate(taskData.getDueDate());
+        }
+        if (taskData.getCompletionDate() != null) {
+            task.setCompletionDate(taskData.getCompletionDate());
+        }
+        applyCompletion(task);
+    }
+
+    // Une tâche terminée sans date de fin prend la date du jour
+    private static void applyCompletion(Task task) {
+        if (task.getStatus() == TaskStatus.COMPLETED && task.getCompletionDate() == null) {
+            task.setCompletionDate(LocalDate.now());
+        }
+    }
+
+    private static TaskResponseDto toResponse(Task task, UUID projectId, UUID assigneeId) {
+        return new TaskResponseDto(task.getId(), projectId, assigneeId, task.getName(), task.getDescription(),
+                task.getStatus(), task.getPriority(), task.getDueDate(), task.getCompletionDate(),
+                task.getCreatedAt(), task.getVersion());
+    }
+}
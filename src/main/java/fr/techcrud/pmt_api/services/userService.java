@@ -1,15 +1,16 @@
 package fr.techcrud.pmt_api.services;
 
 
+import fr.techcrud.pmt_api.dto.CursorPageDto;
+import fr.techcrud.pmt_api.dto.UserSummaryDto;
 import fr.techcrud.pmt_api.models.User;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 import java.util.UUID;
 
 @Service
 public interface userService {
-    public List <User> findAll();
+    public CursorPageDto<UserSummaryDto> findPage(UUID after, int size, String role);
     public User findById(UUID id);
     public User create(User user);
     public User update(UUID id, User user);
@@ -17,4 +18,6 @@ public interface userService {
     public User findByEmail(String email);
 
     public User updateByEmail(String email, User user);
+
+    public User updateProfile(UUID id, User user, Long expectedVersion);
 }
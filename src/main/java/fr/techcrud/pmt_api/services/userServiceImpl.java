@@ -1,13 +1,16 @@
 package fr.techcrud.pmt_api.services;
 
+import fr.techcrud.pmt_api.dto.CursorPageDto;
+import fr.techcrud.pmt_api.dto.UserSummaryDto;
 import fr.techcrud.pmt_api.models.User;
 import fr.techcrud.pmt_api.repositories.userRepository;
+import fr.techcrud.pmt_api.security.PasswordHashingExecutor;
 import fr.techcrud.pmt_api.utils.UserUpdate;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,35 +23,37 @@ public class userServiceImpl implements userService{
     @Autowired
     private UserUpdate userUpdate;
 
-    @Autowired
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
-    public userServiceImpl(PasswordEncoder passwordEncoder) {
-        this.passwordEncoder = passwordEncoder;
+    public userServiceImpl(PasswordHashingExecutor passwordHashingExecutor) {
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
 
     @Override
-    public List <User> findAll(){
-        List <User> list = new ArrayList<>();
-        userRepository.findAll().forEach(list::add);
-        return list;
+    public CursorPageDto<UserSummaryDto> findPage(UUID after, int size, String role){
+        // On lit une ligne de plus pour savoir s'il existe une page suivante
+        PageRequest limit = PageRequest.ofSize(size + 1);
+        List<UserSummaryDto> rows = after == null
+                ? userRepository.findSummaries(role, limit)
+                : userRepository.findSummariesAfter(after, role, limit);
+
+        if (rows.size() <= size) {
+            return new CursorPageDto<>(rows, null);
+        }
+        List<UserSummaryDto> page = rows.subList(0, size);
+        return new CursorPageDto<>(page, page.get(size - 1).getId().toString());
     }
 
     @Override
     public User findByEmail(String email){
-        if(userRepository.findByEmail(email).isPresent()){
-            return userRepository.findByEmail(email).get();
-        }
-        return null;
+        // Cache de second niveau : requête en cache (user-queries), entité dans la région users
+        return userRepository.findByEmail(email).orElse(null);
     }
 
     @Override
     public User findById(UUID id){
-        if(userRepository.findById(id).isPresent()){
-            return userRepository.findById(id).get();
-        }
-        return null;
+        return userRepository.findById(id).orElse(null);
     }
 
     @Override
@@ -56,12 +61,11 @@ public class userServiceImpl implements userService{
         if(userRepository.findByEmail(user.getEmail()).isPresent()){
             return null;
         }
-        if (user.getRole() == null) {
-            user.setRole("USER");
-        }
+        // Le rôle applicatif n'est jamais choisi à l'inscription : seul le chemin d'administration (update) le change
+        user.setRole("USER");
 
         if (user.getPassword() != null && !user.getPassword().isBlank()) {
-            user.setPassword(passwordEncoder.encode(user.getPassword()));
+            user.setPassword(passwordHashingExecutor.encode(user.getPassword()));
         }
 
         return userRepository.save(user);
@@ -77,10 +81,30 @@ public class userServiceImpl implements userService{
         User existingUser = userRepository.findByEmail(email).orElse(null);
         if (existingUser == null) return null;
 
+        return replaceProfile(existingUser, userData);
+    }
+
+    @Override
+    public User updateProfile(UUID id, User userData, Long expectedVersion) {
+        User existingUser = userRepository.findById(id).orElse(null);
+        if (existingUser == null) return null;
+        // If-Match : la version lue doit être celle attendue ; une écriture concurrente est détectée au merge
+        if (expectedVersion != null && !expectedVersion.equals(existingUser.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(User.class, id);
+        }
+
+        return replaceProfile(existingUser, userData);
+    }
+
+    private User replaceProfile(User existingUser, User userData) {
         existingUser.setFirstName(userData.getFirstName());
         existingUser.setLastName(userData.getLastName());
-        existingUser.setPassword(userData.getPassword());
-        existingUser.setRole(userData.getRole() != null ? userData.getRole() : "USER");
+        // Même règle qu'à l'inscription : le mot de passe n'est jamais stocké en clair ;
+        // absent du corps, le hachage existant est conservé
+        if (userData.getPassword() != null && !userData.getPassword().isBlank()) {
+            existingUser.setPassword(passwordHashingExecutor.encode(userData.getPassword()));
+        }
+        // Le rôle est conservé : un utilisateur ne peut pas modifier le sien (ProjectAccess fait confiance à ADMIN)
 
         return userRepository.save(existingUser);
     }
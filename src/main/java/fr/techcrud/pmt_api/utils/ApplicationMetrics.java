@@ -0,0 +1,182 @@
+package fr.techcrud.pmt_api.utils;
+
+import fr.techcrud.pmt_api.security.PasswordHashingExecutor;
+import fr.techcrud.pmt_api.security.ProjectMembershipIndex;
+import fr.techcrud.pmt_api.security.VerifiedTokenCache;
+import fr.techcrud.pmt_api.services.OverdueTaskScheduler;
+import fr.techcrud.pmt_api.services.TaskEventStream;
+import fr.techcrud.pmt_api.services.TaskHistoryArchiver;
+import fr.techcrud.pmt_api.services.TaskHistoryPartitionScheduler;
+import fr.techcrud.pmt_api.services.TaskHistoryBuffer;
+import fr.techcrud.pmt_api.services.TaskSearchIndex;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Expose en métriques les compteurs déjà tenus par les composants (LongAdder, tailles de cache, files).
+ * Les valeurs sont lues au moment de la collecte : rien n'est ajouté sur le chemin des requêtes.
+ */
+@Component
+public class ApplicationMetrics implements MeterBinder {
+
+    private final PasswordHashingExecutor passwordHashing;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final ProjectMembershipIndex membershipIndex;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TaskHistoryBuffer taskHistoryBuffer;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskEventStream taskEventStream;
+    private final OverdueTaskScheduler overdueTaskScheduler;
+    private final TaskHistoryPartitionScheduler partitionScheduler;
+    private final ObjectProvider<TaskHistoryArchiver> taskHistoryArchiver;
+    private final ObjectProvider<VirtualThreadDiagnostics> virtualThreadDiagnostics;
+
+    public ApplicationMetrics(PasswordHashingExecutor passwordHashing, VerifiedTokenCache verifiedTokenCache,
+            ProjectMembershipIndex membershipIndex, EntityManagerFactory entityManagerFactory,
+            TaskHistoryBuffer taskHistoryBuffer,
+            TaskSearchIndex taskSearchIndex, TaskEventStream taskEventStream,
+            OverdueTaskScheduler overdueTaskScheduler, TaskHistoryPartitionScheduler partitionScheduler,
+            ObjectProvider<TaskHistoryArchiver> taskHistoryArchiver,
+            ObjectProvider<VirtualThreadDiagnostics> virtualThreadDiagnostics) {
+        this.passwordHashing = passwordHashing;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.membershipIndex = membershipIndex;
+        this.entityManagerFactory = entityManagerFactory;
+        this.taskHistoryBuffer = taskHistoryBuffer;
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskEventStream = taskEventStream;
+        this.overdueTaskScheduler = overdueTaskScheduler;
+        this.partitionScheduler = partitionScheduler;
+        this.taskHistoryArchiver = taskHistoryArchiver;
+        this.virtualThreadDiagnostics = virtualThreadDiagnostics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // Hachage BCrypt (login, inscription) : temps passé dans le pool dédié, hors attente en file
+        FunctionTimer.builder("pmt.password.hashing", passwordHashing,
+                        PasswordHashingExecutor::getHashCount, PasswordHashingExecutor::getHashNanos,
+                        TimeUnit.NANOSECONDS)
+                .register(registry);
+        Gauge.builder("pmt.password.hashing.queue", passwordHashing, PasswordHashingExecutor::getQueueDepth)
+                .register(registry);
+        Gauge.builder("pmt.password.hashing.active", passwordHashing, PasswordHashingExecutor::getActiveCount)
+                .register(registry);
+        FunctionCounter.builder("pmt.password.hashing.rejected", passwordHashing,
+                        PasswordHashingExecutor::getRejectedCount)
+                .register(registry);
+
+        // JWT : vérifications de signature effectives, et efficacité du cache devant elles
+        FunctionTimer.builder("pmt.jwt.verification", verifiedTokenCache,
+                        VerifiedTokenCache::verificationCount, VerifiedTokenCache::verificationNanos,
+                        TimeUnit.NANOSECONDS)
+                .register(registry);
+        cache(registry, "jwt", verifiedTokenCache, VerifiedTokenCache::hitCount, VerifiedTokenCache::missCount);
+        Gauge.builder("pmt.cache.size", verifiedTokenCache, VerifiedTokenCache::size)
+                .tag("cache", "jwt")
+                .register(registry);
+        FunctionCounter.builder("pmt.cache.evictions", verifiedTokenCache, VerifiedTokenCache::evictionCount)
+                .tag("cache", "jwt")
+                .register(registry);
+
+        // Utilisateurs : région "users" du cache de second niveau (elle remplace le near-cache UserCache),
+        // publiée sous les mêmes noms pour garder les tableaux de bord
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        cache(registry, "users", statistics, region("users", CacheRegionStatistics::getHitCount),
+                region("users", CacheRegionStatistics::getMissCount));
+        Gauge.builder("pmt.cache.size", statistics, region("users", CacheRegionStatistics::getElementCountInMemory))
+                .tag("cache", "users")
+                .register(registry);
+        Gauge.builder("pmt.cache.hit.ratio", statistics, region("users", r -> {
+                    long total = r.getHitCount() + r.getMissCount();
+                    return total == 0 ? 0.0 : (double) r.getHitCount() / total;
+                }))
+                .tag("cache", "users")
+                .register(registry);
+        Gauge.builder("pmt.cache.size", membershipIndex, ProjectMembershipIndex::size)
+                .tag("cache", "project-members")
+                .register(registry);
+        Gauge.builder("pmt.cache.hit.ratio", membershipIndex, ProjectMembershipIndex::hitRatio)
+                .tag("cache", "project-members")
+                .register(registry);
+
+        Gauge.builder("pmt.task.history.queue", taskHistoryBuffer, TaskHistoryBuffer::getQueueDepth)
+                .register(registry);
+        FunctionCounter.builder("pmt.task.history.written", taskHistoryBuffer, TaskHistoryBuffer::getWrittenCount)
+                .register(registry);
+        FunctionCounter.builder("pmt.task.history.dropped", taskHistoryBuffer, TaskHistoryBuffer::getDroppedCount)
+                .register(registry);
+        FunctionTimer.builder("pmt.task.history.flush", taskHistoryBuffer,
+                        TaskHistoryBuffer::getFlushCount, TaskHistoryBuffer::getFlushNanos, TimeUnit.NANOSECONDS)
+                .register(registry);
+
+        Gauge.builder("pmt.search.index.tasks", taskSearchIndex, TaskSearchIndex::taskCount)
+                .register(registry);
+
+        Gauge.builder("pmt.events.subscribers", taskEventStream, TaskEventStream::getSubscriberCount)
+                .register(registry);
+        FunctionCounter.builder("pmt.events.published", taskEventStream, TaskEventStream::getPublishedCount)
+                .register(registry);
+        FunctionCounter.builder("pmt.events.dropped.subscribers", taskEventStream,
+                        TaskEventStream::getDroppedSubscribers)
+                .register(registry);
+
+        FunctionCounter.builder("pmt.tasks.overdue.processed", overdueTaskScheduler,
+                        OverdueTaskScheduler::getProcessedCount)
+                .register(registry);
+        Gauge.builder("pmt.tasks.overdue.last.run", overdueTaskScheduler, OverdueTaskScheduler::getLastRunCount)
+                .register(registry);
+
+        FunctionCounter.builder("pmt.task.history.created.partitions", partitionScheduler,
+                        TaskHistoryPartitionScheduler::getCreatedPartitions)
+                .register(registry);
+        taskHistoryArchiver.ifAvailable(archiver -> {
+            FunctionCounter.builder("pmt.task.history.archived.partitions", archiver,
+                            TaskHistoryArchiver::getArchivedPartitions)
+                    .register(registry);
+            FunctionCounter.builder("pmt.task.history.archived.rows", archiver, TaskHistoryArchiver::getArchivedRows)
+                    .register(registry);
+        });
+        virtualThreadDiagnostics.ifAvailable(diagnostics ->
+                FunctionCounter.builder("pmt.virtual.threads.pinned", diagnostics,
+                                VirtualThreadDiagnostics::getPinnedCount)
+                        .register(registry));
+    }
+
+    // 0 si le cache de second niveau est désactivé (la région n'existe pas)
+    private static ToDoubleFunction<Statistics> region(String name, ToDoubleFunction<CacheRegionStatistics> value) {
+        return statistics -> {
+            CacheRegionStatistics region;
+            try {
+                region = statistics.getDomainDataRegionStatistics(name);
+            } catch (IllegalArgumentException e) {
+                return 0;
+            }
+            return region == null ? 0 : value.applyAsDouble(region);
+        };
+    }
+
+    private static <T> void cache(MeterRegistry registry, String name, T cache,
+            ToDoubleFunction<T> hits, ToDoubleFunction<T> misses) {
+        FunctionCounter.builder("pmt.cache.gets", cache, hits)
+                .tag("cache", name)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("pmt.cache.gets", cache, misses)
+                .tag("cache", name)
+                .tag("result", "miss")
+                .register(registry);
+    }
+}
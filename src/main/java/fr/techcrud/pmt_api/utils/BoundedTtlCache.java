@@ -0,0 +1,129 @@
+package fr.techcrud.pmt_api.utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cache mémoire borné en taille, avec expiration par entrée.
+ * L'éviction se fait dans l'ordre d'insertion (FIFO) dès que la taille maximale est dépassée,
+ * les entrées expirées sont retirées à la lecture.
+ */
+public class BoundedTtlCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<K> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final ReentrantLock compacting = new ReentrantLock();
+
+    private final int maxSize;
+    private final long defaultTtlMillis;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedTtlCache(int maxSize, long defaultTtlMillis) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+        this.defaultTtlMillis = defaultTtlMillis;
+    }
+
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            if (entries.remove(key, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    public void put(K key, V value) {
+        put(key, value, System.currentTimeMillis() + defaultTtlMillis);
+    }
+
+    public void put(K key, V value, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        Entry<V> previous = entries.put(key, new Entry<>(value, expiresAtMillis));
+        if (previous == null) {
+            insertionOrder.add(key);
+            queued.incrementAndGet();
+            trim();
+        }
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+        insertionOrder.clear();
+        queued.set(0);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public double hitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    private void trim() {
+        while (entries.size() > maxSize) {
+            K eldest = insertionOrder.poll();
+            if (eldest == null) {
+                break;
+            }
+            queued.decrementAndGet();
+            if (entries.remove(eldest) != null) {
+                evictions.increment();
+            }
+        }
+        // La file peut contenir des clés déjà invalidées : on la reconstruit pour qu'elle reste bornée
+        if (queued.get() > 2 * maxSize && compacting.tryLock()) {
+            try {
+                insertionOrder.clear();
+                queued.set(0);
+                for (K key : entries.keySet()) {
+                    insertionOrder.add(key);
+                    queued.incrementAndGet();
+                }
+            } finally {
+                compacting.unlock();
+            }
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
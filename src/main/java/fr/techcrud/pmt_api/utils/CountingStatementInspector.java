@@ -0,0 +1,16 @@
+package fr.techcrud.pmt_api.utils;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Compte les requêtes SQL préparées par Hibernate pendant la requête HTTP en cours.
+ * Déclaré par {@code hibernate.session_factory.statement_inspector} ; les accès JdbcTemplate ne passent pas ici.
+ */
+public class CountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryCounter.statement();
+        return sql;
+    }
+}
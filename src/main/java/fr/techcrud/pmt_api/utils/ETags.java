@@ -0,0 +1,53 @@
+package fr.techcrud.pmt_api.utils;
+
+import java.util.UUID;
+
+/**
+ * ETag forts dérivés de la version (@Version) d'une entité : "{id}.{version}".
+ * L'id est inclus car une même URL (/users/me) peut désigner des ressources différentes.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(UUID id, Long version) {
+        return "\"" + id + "." + version + "\"";
+    }
+
+    // If-None-Match : comparaison faible, W/ ignoré
+    public static boolean noneMatchHits(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Version attendue par un If-Match sur la ressource {@code id}.
+     * null si l'en-tête est absent ou vaut *, -1 si aucun ETag de l'en-tête ne désigne cette ressource.
+     */
+    public static Long expectedVersion(String ifMatch, UUID id) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String prefix = "\"" + id + ".";
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith(prefix) && tag.endsWith("\"")) {
+                try {
+                    return Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+                } catch (NumberFormatException e) {
+                    return -1L;
+                }
+            }
+        }
+        return -1L;
+    }
+}
@@ -0,0 +1,176 @@
+package fr.techcrud.pmt_api.utils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Trousseau de clés HMAC partagé entre les instances de l'API.
+ * <p>
+ * Les clés sont lues depuis {@code jwt.keys} ({@code kid:secretBase64,kid2:secretBase64}) et/ou
+ * depuis un fichier de propriétés {@code jwt.key-file} ({@code kid=secretBase64}, plus {@code active=kid}).
+ * La clé active signe les nouveaux tokens, toutes les clés du trousseau restent valides en vérification.
+ * Avec un fichier, la clé active doit être désignée ({@code active=kid} ou {@code jwt.active-kid}) : sans elle,
+ * le démarrage échoue et un rechargement garde le trousseau courant.
+ * Le fichier est relu périodiquement : pour une rotation, on ajoute la nouvelle clé, on la déclare active,
+ * puis on retire l'ancienne une fois les tokens qu'elle a signés expirés.
+ */
+@Component
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtKeyRing.class);
+    private static final String ACTIVE_ENTRY = "active";
+
+    private final String inlineKeys;
+    private final String keyFile;
+    private final String configuredActiveKid;
+
+    private volatile KeySet keySet;
+    private volatile long keyFileLastModified;
+
+    public JwtKeyRing(@Value("${jwt.keys:}") String inlineKeys,
+            @Value("${jwt.key-file:}") String keyFile,
+            @Value("${jwt.active-kid:}") String configuredActiveKid) {
+        this.inlineKeys = inlineKeys;
+        this.keyFile = keyFile;
+        this.configuredActiveKid = configuredActiveKid;
+        this.keySet = load();
+    }
+
+    public ActiveKey getActiveKey() {
+        KeySet current = keySet;
+        return new ActiveKey(current.activeKid(), current.signingKey());
+    }
+
+    public boolean canVerify(String kid) {
+        return kid != null && keySet.verificationKeys().containsKey(kid);
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        // Token sans kid (forgé, ou antérieur au trousseau) : refusé comme une signature invalide (401)
+        String kid = header.getKeyId();
+        if (kid == null || kid.isBlank()) {
+            throw new SignatureException("Missing signing key id");
+        }
+        SecretKey key = keySet.verificationKeys().get(kid);
+        if (key == null) {
+            throw new SignatureException("Unknown signing key id");
+        }
+        return key;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.key-file.reload-interval-ms:60000}")
+    public void reload() {
+        if (keyFile.isBlank()) {
+            return;
+        }
+        try {
+            long lastModified = Files.getLastModifiedTime(Path.of(keyFile)).toMillis();
+            if (lastModified == keyFileLastModified) {
+                return;
+            }
+            KeySet reloaded = load();
+            if (!reloaded.equals(keySet)) {
+                log.info("JWT key ring reloaded: active kid '{}', {} verification key(s)",
+                        reloaded.activeKid(), reloaded.verificationKeys().size());
+            }
+            keySet = reloaded;
+        } catch (IOException | RuntimeException e) {
+            // On garde le trousseau courant : une erreur de fichier ne doit pas déconnecter tout le monde
+            log.error("Unable to reload JWT key file {}, keeping current keys", keyFile, e);
+        }
+    }
+
+    private KeySet load() {
+        Map<String, SecretKey> keys = new LinkedHashMap<>();
+        String activeKid = configuredActiveKid;
+
+        if (!inlineKeys.isBlank()) {
+            for (String entry : inlineKeys.split(",")) {
+                String[] parts = entry.trim().split(":", 2);
+                if (parts.length != 2) {
+                    throw new IllegalStateException("Invalid jwt.keys entry, expected kid:base64Secret");
+                }
+                keys.put(parts[0].trim(), toKey(parts[0].trim(), parts[1].trim()));
+            }
+        }
+
+        if (!keyFile.isBlank()) {
+            Path path = Path.of(keyFile);
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(path)) {
+                properties.load(reader);
+                keyFileLastModified = Files.getLastModifiedTime(path).toMillis();
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to read JWT key file " + keyFile, e);
+            }
+            for (String kid : properties.stringPropertyNames()) {
+                if (ACTIVE_ENTRY.equals(kid)) {
+                    continue;
+                }
+                keys.put(kid, toKey(kid, properties.getProperty(kid).trim()));
+            }
+            String fileActiveKid = properties.getProperty(ACTIVE_ENTRY);
+            if (activeKid.isBlank() && fileActiveKid != null) {
+                activeKid = fileActiveKid.trim();
+            }
+        }
+
+        if (keys.isEmpty()) {
+            // Aucun secret configuré (poste de dev) : clé aléatoire, les tokens ne survivent pas au redémarrage
+            log.warn("No JWT key configured (jwt.keys / jwt.key-file), using a random key for this instance only");
+            SecretKey randomKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+            return new KeySet("local", randomKey, Collections.singletonMap("local", randomKey));
+        }
+
+        if (activeKid.isBlank()) {
+            // Properties n'a pas d'ordre : "la dernière clé du fichier" changerait d'une instance à l'autre
+            if (!keyFile.isBlank()) {
+                throw new IllegalStateException("No active JWT kid: add active=<kid> to " + keyFile
+                        + " or set jwt.active-kid");
+            }
+            // jwt.keys seul : la dernière clé de la liste, dans l'ordre où elle est écrite
+            activeKid = keys.keySet().stream().reduce((first, second) -> second).orElseThrow();
+        }
+        SecretKey signingKey = keys.get(activeKid);
+        if (signingKey == null) {
+            throw new IllegalStateException("Active JWT kid '" + activeKid + "' is not in the key ring");
+        }
+        return new KeySet(activeKid, signingKey, Collections.unmodifiableMap(keys));
+    }
+
+    private static SecretKey toKey(String kid, String base64Secret) {
+        byte[] secret = Base64.getDecoder().decode(base64Secret);
+        if (secret.length < 32) {
+            throw new IllegalStateException("JWT key '" + kid + "' must be at least 256 bits");
+        }
+        return Keys.hmacShaKeyFor(secret);
+    }
+
+    public record ActiveKey(String kid, SecretKey key) {
+    }
+
+    private record KeySet(String activeKid, SecretKey signingKey, Map<String, SecretKey> verificationKeys) {
+    }
+}
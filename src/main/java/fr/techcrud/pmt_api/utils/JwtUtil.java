@@ -1,35 +1,55 @@
 package fr.techcrud.pmt_api.utils;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
 
-    private final Key key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+
+    private final JwtKeyRing keyRing;
     private final long expiration = 1000 * 60 * 60; // 1h
+    // Le parser est immuable et thread-safe : on le construit une seule fois,
+    // la clé de vérification est choisie via le header "kid"
+    private final JwtParser parser;
+
+    public JwtUtil(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+        this.parser = Jwts.parserBuilder().setSigningKeyResolver(keyRing).build();
+    }
 
-    public String generateToken(String email) {
+    public String generateToken(UUID userId, String email, String role) {
+        JwtKeyRing.ActiveKey activeKey = keyRing.getActiveKey();
         return Jwts.builder()
+                .setHeaderParam("kid", activeKey.kid())
                 .setSubject(email)
+                .claim(USER_ID_CLAIM, userId.toString())
+                .claim(ROLE_CLAIM, role)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(key)
+                .signWith(activeKey.key(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    public Jws<Claims> parse(String token) {
+        return parser.parseClaimsJws(token);
+    }
+
+    public Claims parseClaims(String token) {
+        return parse(token).getBody();
+    }
+
     public String getEmailFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
     public boolean isTokenValid(String token) {
@@ -40,4 +60,8 @@ public class JwtUtil {
             return false;
         }
     }
+
+    public boolean isKeyStillTrusted(String kid) {
+        return keyRing.canVerify(kid);
+    }
 }
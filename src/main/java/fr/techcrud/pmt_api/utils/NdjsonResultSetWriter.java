@@ -0,0 +1,101 @@
+package fr.techcrud.pmt_api.utils;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+/**
+ * Écrit un ResultSet ligne par ligne en NDJSON (un objet JSON par ligne, clés = noms de colonnes).
+ * Rien n'est accumulé en mémoire : chaque ligne est écrite puis oubliée.
+ */
+public class NdjsonResultSetWriter {
+
+    private final JsonMapper jsonMapper;
+
+    public NdjsonResultSetWriter(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    public long write(ResultSet rs, OutputStream out) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        String[] names = new String[columnCount + 1];
+        int[] types = new int[columnCount + 1];
+        for (int i = 1; i <= columnCount; i++) {
+            names[i] = metaData.getColumnLabel(i).toLowerCase();
+            types[i] = metaData.getColumnType(i);
+        }
+
+        long rows = 0;
+        try (JsonGenerator generator = jsonMapper.writer().withRootValueSeparator("\n").createGenerator(out)) {
+            while (rs.next()) {
+                generator.writeStartObject();
+                for (int i = 1; i <= columnCount; i++) {
+                    generator.writeName(names[i]);
+                    writeValue(generator, rs, i, types[i]);
+                }
+                generator.writeEndObject();
+                rows++;
+            }
+            if (rows > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+        return rows;
+    }
+
+    private static void writeValue(JsonGenerator generator, ResultSet rs, int index, int type) throws SQLException {
+        switch (type) {
+            case Types.DATE -> {
+                Date date = rs.getDate(index);
+                if (date == null) {
+                    generator.writeNull();
+                } else {
+                    generator.writeString(date.toLocalDate().toString());
+                }
+            }
+            case Types.TIMESTAMP -> {
+                Timestamp timestamp = rs.getTimestamp(index);
+                if (timestamp == null) {
+                    generator.writeNull();
+                } else {
+                    generator.writeString(timestamp.toLocalDateTime().toString());
+                }
+            }
+            case Types.INTEGER, Types.BIGINT, Types.SMALLINT, Types.TINYINT -> {
+                long value = rs.getLong(index);
+                if (rs.wasNull()) {
+                    generator.writeNull();
+                } else {
+                    generator.writeNumber(value);
+                }
+            }
+            case Types.BINARY, Types.VARBINARY -> {
+                // Les identifiants sont stockés en BINARY(16)
+                byte[] bytes = rs.getBytes(index);
+                if (bytes == null) {
+                    generator.writeNull();
+                } else if (bytes.length == 16) {
+                    generator.writeString(Uuids.fromBytes(bytes).toString());
+                } else {
+                    generator.writeBinary(bytes);
+                }
+            }
+            default -> {
+                String value = rs.getString(index);
+                if (value == null) {
+                    generator.writeNull();
+                } else {
+                    generator.writeString(value);
+                }
+            }
+        }
+    }
+}
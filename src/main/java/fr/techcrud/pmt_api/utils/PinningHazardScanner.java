@@ -0,0 +1,135 @@
+package fr.techcrud.pmt_api.utils;
+
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.SpringAsmInfo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Contrôle statique des sections synchronized qui entourent un appel bloquant (JDBC, JPA, E/S, BCrypt,
+ * attente sur une file ou un verrou...). Avant Java 24 (JEP 491), un thread virtuel bloqué dans une telle
+ * section reste épinglé à son thread porteur.
+ * <p>
+ * Lit le bytecode des classes (y compris classes imbriquées et anonymes) : les méthodes synchronized et
+ * les blocs {@code synchronized (...)} (MONITORENTER / MONITOREXIT). Les instructions sont suivies dans
+ * l'ordre, sans graphe de flot : après un return anticipé dans un bloc, la fin du bloc peut échapper au
+ * contrôle. Les épinglages internes aux bibliothèques et aux appels natifs restent l'affaire du flux JFR de
+ * {@link VirtualThreadDiagnostics}.
+ */
+public final class PinningHazardScanner {
+
+    // Préfixes de types dont tout appel peut bloquer
+    private static final List<String> BLOCKING_OWNER_PREFIXES = List.of(
+            "java/sql/", "javax/sql/", "java/io/", "java/net/", "java/nio/channels/",
+            "jakarta/persistence/", "org/hibernate/", "org/springframework/jdbc/", "org/springframework/data/",
+            "org/springframework/web/client/", "org/springframework/security/crypto/",
+            "fr/techcrud/pmt_api/repositories/");
+
+    // Méthodes bloquantes de types par ailleurs non bloquants
+    private static final Map<String, Set<String>> BLOCKING_METHODS = Map.of(
+            "java/lang/Thread", Set.of("sleep", "join"),
+            "java/lang/Object", Set.of("wait"),
+            "java/util/concurrent/Future", Set.of("get"),
+            "java/util/concurrent/CompletableFuture", Set.of("get", "join"),
+            "java/util/concurrent/BlockingQueue", Set.of("put", "take"),
+            "java/util/concurrent/ArrayBlockingQueue", Set.of("put", "take"),
+            "java/util/concurrent/LinkedBlockingQueue", Set.of("put", "take"),
+            "java/util/concurrent/CountDownLatch", Set.of("await"),
+            "java/util/concurrent/Semaphore", Set.of("acquire"),
+            "java/util/concurrent/locks/Condition", Set.of("await"));
+
+    private PinningHazardScanner() {
+    }
+
+    // Une entrée par méthode et appel bloquant : "Classe.méthode: synchronized block around Type.appel"
+    public static List<String> scan(Collection<Class<?>> types) {
+        Set<String> hazards = new LinkedHashSet<>();
+        for (Class<?> type : types) {
+            for (Class<?> nested : type.getDeclaredClasses()) {
+                scanClass(type.getClassLoader(), nested.getName(), hazards);
+            }
+            // Classes anonymes : Type$1, Type$2...
+            int index = 1;
+            while (scanClass(type.getClassLoader(), type.getName() + "$" + index, hazards)) {
+                index++;
+            }
+            scanClass(type.getClassLoader(), type.getName(), hazards);
+        }
+        return new ArrayList<>(hazards);
+    }
+
+    // false si le bytecode de la classe est introuvable
+    private static boolean scanClass(ClassLoader classLoader, String className, Set<String> hazards) {
+        ClassLoader loader = classLoader != null ? classLoader : ClassLoader.getSystemClassLoader();
+        try (InputStream bytecode = loader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+            if (bytecode == null) {
+                return false;
+            }
+            String simpleName = className.substring(className.lastIndexOf('.') + 1);
+            new ClassReader(bytecode).accept(new ClassVisitor(SpringAsmInfo.ASM_VERSION) {
+                @Override
+                public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                        String[] exceptions) {
+                    return new MonitorTracker(simpleName + "." + name,
+                            (access & Opcodes.ACC_SYNCHRONIZED) != 0, hazards);
+                }
+            }, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static boolean isBlocking(String owner, String name) {
+        for (String prefix : BLOCKING_OWNER_PREFIXES) {
+            if (owner.startsWith(prefix)) {
+                return true;
+            }
+        }
+        Set<String> methods = BLOCKING_METHODS.get(owner);
+        return methods != null && methods.contains(name);
+    }
+
+    private static final class MonitorTracker extends MethodVisitor {
+
+        private final String method;
+        private final boolean synchronizedMethod;
+        private final Set<String> hazards;
+        // Profondeur des blocs synchronized ; le MONITOREXIT du gestionnaire d'exception la ferait passer sous 0
+        private int depth;
+
+        MonitorTracker(String method, boolean synchronizedMethod, Set<String> hazards) {
+            super(SpringAsmInfo.ASM_VERSION);
+            this.method = method;
+            this.synchronizedMethod = synchronizedMethod;
+            this.hazards = hazards;
+        }
+
+        @Override
+        public void visitInsn(int opcode) {
+            if (opcode == Opcodes.MONITORENTER) {
+                depth++;
+            } else if (opcode == Opcodes.MONITOREXIT) {
+                depth = Math.max(0, depth - 1);
+            }
+        }
+
+        @Override
+        public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+            if ((depth > 0 || synchronizedMethod) && isBlocking(owner, name)) {
+                hazards.add(method + ": " + (depth > 0 ? "synchronized block" : "synchronized method") + " around "
+                        + owner.substring(owner.lastIndexOf('/') + 1) + "." + name);
+            }
+        }
+    }
+}
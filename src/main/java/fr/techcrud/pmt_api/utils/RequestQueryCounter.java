@@ -0,0 +1,40 @@
+package fr.techcrud.pmt_api.utils;
+
+/**
+ * Compteurs Hibernate de la requête HTTP en cours (thread courant) : requêtes SQL préparées et entités chargées.
+ * Ouverts et relevés par {@link RequestQueryMetricsFilter} ; hors requête HTTP, les incréments sont ignorés.
+ */
+public final class RequestQueryCounter {
+
+    private static final ThreadLocal<long[]> COUNTERS = new ThreadLocal<>();
+
+    private RequestQueryCounter() {
+    }
+
+    public record Snapshot(long statements, long entityLoads) {
+    }
+
+    static void begin() {
+        COUNTERS.set(new long[2]);
+    }
+
+    static Snapshot end() {
+        long[] counters = COUNTERS.get();
+        COUNTERS.remove();
+        return counters == null ? new Snapshot(0, 0) : new Snapshot(counters[0], counters[1]);
+    }
+
+    static void statement() {
+        long[] counters = COUNTERS.get();
+        if (counters != null) {
+            counters[0]++;
+        }
+    }
+
+    static void entityLoad() {
+        long[] counters = COUNTERS.get();
+        if (counters != null) {
+            counters[1]++;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package fr.techcrud.pmt_api.utils;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Nombre de requêtes SQL et d'entités chargées par requête HTTP, par route :
+ * {@code hibernate.request.statements} et {@code hibernate.request.entity.loads}.
+ * Fait ressortir les N+1 qu'un compteur global noie dans le trafic.
+ */
+@Component
+public class RequestQueryMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public RequestQueryMetricsFilter(MeterRegistry meterRegistry, EntityManagerFactory entityManagerFactory) {
+        this.meterRegistry = meterRegistry;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> RequestQueryCounter.entityLoad());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryCounter.Snapshot snapshot = RequestQueryCounter.end();
+            // Route (/api/v1/tasks/{id}) plutôt que l'URI, pour garder un nombre de séries borné
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            summary("hibernate.request.statements", uri, request.getMethod()).record(snapshot.statements());
+            summary("hibernate.request.entity.loads", uri, request.getMethod()).record(snapshot.entityLoads());
+        }
+    }
+
+    private DistributionSummary summary(String name, String uri, String method) {
+        return DistributionSummary.builder(name)
+                .tag("uri", uri)
+                .tag("method", method)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+}
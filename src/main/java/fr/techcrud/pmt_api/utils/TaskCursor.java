@@ -0,0 +1,37 @@
+package fr.techcrud.pmt_api.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Curseur opaque de la liste des tâches, triée par (due_date, id) avec les tâches sans échéance en dernier.
+ * {@code dueDate == null} signifie que la page précédente était déjà dans les tâches sans échéance.
+ */
+public record TaskCursor(LocalDate dueDate, UUID id) {
+
+    private static final String NO_DUE_DATE = "-";
+
+    public String encode() {
+        String raw = (dueDate == null ? NO_DUE_DATE : dueDate.toString()) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Retourne null si le curseur n'a pas été produit par encode()
+    public static TaskCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                return null;
+            }
+            String due = raw.substring(0, separator);
+            UUID id = UUID.fromString(raw.substring(separator + 1));
+            return new TaskCursor(NO_DUE_DATE.equals(due) ? null : LocalDate.parse(due), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return null;
+        }
+    }
+}
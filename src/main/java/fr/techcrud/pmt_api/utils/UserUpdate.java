@@ -2,6 +2,7 @@ package fr.techcrud.pmt_api.utils;
 
 import fr.techcrud.pmt_api.models.User;
 import fr.techcrud.pmt_api.repositories.userRepository;
+import fr.techcrud.pmt_api.security.PasswordHashingExecutor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -14,6 +15,9 @@ public class UserUpdate {
     @Autowired
     userRepository userRepository;
 
+    @Autowired
+    PasswordHashingExecutor passwordHashingExecutor;
+
     public User userUpdater(UUID id, User userData) {
         Optional<User> user = userRepository.findById(id);
         if (user.isEmpty()) {
@@ -29,7 +33,7 @@ public class UserUpdate {
             existingUser.setLastName(userData.getLastName());
         }
         if (userData.getPassword() != null && !userData.getPassword().isBlank()) {
-            existingUser.setPassword(userData.getPassword());
+            existingUser.setPassword(passwordHashingExecutor.encode(userData.getPassword()));
         }
         if (userData.getRole() != null && !userData.getRole().isBlank()) {
             existingUser.setRole(userData.getRole());
@@ -0,0 +1,43 @@
+package fr.techcrud.pmt_api.utils;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Helpers pour les identifiants stockés en BINARY(16).
+ * Utilisé par les accès JDBC directs ; les entités passent par {@code @UuidGenerator(style = VERSION_7)}.
+ */
+public final class Uuids {
+
+    private Uuids() {
+    }
+
+    // UUID version 7 (RFC 9562) : 48 bits de timestamp en ms, puis aléatoire
+    public static UUID timeOrdered() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long msb = (System.currentTimeMillis() << 16)
+                | 0x7000L
+                | (random.nextLong() & 0x0FFFL);
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
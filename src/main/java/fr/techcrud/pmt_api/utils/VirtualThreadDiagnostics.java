@@ -0,0 +1,136 @@
+package fr.techcrud.pmt_api.utils;
+
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Diagnostics du mode « threads virtuels » (spring.threads.virtual.enabled=true).
+ * <ul>
+ * <li>au démarrage : sections synchronized (méthodes et blocs) des beans de l'application qui entourent un
+ * appel bloquant, relevées dans le bytecode par {@link PinningHazardScanner} ;</li>
+ * <li>en continu : flux JFR des événements jdk.VirtualThreadPinned au-delà d'un seuil, journalisés avec
+ * le haut de leur pile et comptés (épinglages des bibliothèques, appels natifs, initialisation de classes...).</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadDiagnostics {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadDiagnostics.class);
+
+    private static final String APPLICATION_PACKAGE = "fr.techcrud.pmt_api";
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int REPORTED_FRAMES = 8;
+
+    private final ApplicationContext applicationContext;
+    private final long pinnedThresholdMs;
+    private final int poolSize;
+    private final long connectionTimeoutMs;
+
+    private final LongAdder pinnedCount = new LongAdder();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadDiagnostics(ApplicationContext applicationContext,
+            @Value("${virtual-threads.pinned-threshold-ms:20}") long pinnedThresholdMs,
+            @Value("${virtual-threads.db.maximum-pool-size:20}") int poolSize,
+            @Value("${virtual-threads.db.connection-timeout-ms:5000}") long connectionTimeoutMs) {
+        this.applicationContext = applicationContext;
+        this.pinnedThresholdMs = pinnedThresholdMs;
+        this.poolSize = poolSize;
+        this.connectionTimeoutMs = connectionTimeoutMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        // Plus de thread Tomcat pour borner la concurrence : c'est le pool Hikari qui limite l'accès à MySQL
+        log.info("Requests run on virtual threads; database concurrency is bounded by the Hikari pool "
+                + "({} connections, {} ms acquisition timeout)", poolSize, connectionTimeoutMs);
+        reportPinningHazards();
+        startPinnedEventStream();
+    }
+
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void reportPinningHazards() {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (String beanName : applicationContext.getBeanDefinitionNames()) {
+            Class<?> type = applicationContext.getType(beanName);
+            if (type != null) {
+                Class<?> userClass = ClassUtils.getUserClass(type);
+                if (userClass.getName().startsWith(APPLICATION_PACKAGE)) {
+                    types.add(userClass);
+                }
+            }
+        }
+        List<String> hazards = PinningHazardScanner.scan(types);
+        if (hazards.isEmpty()) {
+            log.info("Virtual thread check: no synchronized section around a blocking call in {} application "
+                    + "bean(s)", types.size());
+        } else if (Runtime.version().feature() >= 24) {
+            log.info("Virtual thread check: synchronized sections around blocking calls {} no longer pin on "
+                    + "Java {}", hazards, Runtime.version().feature());
+        } else {
+            log.warn("Virtual thread check: synchronized sections around blocking calls {} pin virtual threads "
+                    + "on Java {}; prefer ReentrantLock", hazards, Runtime.version().feature());
+        }
+    }
+
+    private void startPinnedEventStream() {
+        try {
+            recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(pinnedThresholdMs)).withStackTrace();
+            recordingStream.onEvent(PINNED_EVENT, event -> {
+                pinnedCount.increment();
+                log.warn("Virtual thread pinned for {} ms on {}: {}", event.getDuration().toMillis(),
+                        event.getThread() == null ? "?" : event.getThread().getJavaName(),
+                        topFrames(event.getStackTrace()));
+            });
+            recordingStream.startAsync();
+        } catch (RuntimeException e) {
+            // JFR absent ou désactivé : pas de détection d'épinglage
+            log.warn("Virtual thread pinning monitor unavailable: {}", e.getMessage());
+        }
+    }
+
+    private static String topFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "no stack trace";
+        }
+        List<String> frames = new ArrayList<>();
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frames.size() == REPORTED_FRAMES) {
+                break;
+            }
+            frames.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":"
+                    + frame.getLineNumber());
+        }
+        return String.join(" <- ", frames);
+    }
+}
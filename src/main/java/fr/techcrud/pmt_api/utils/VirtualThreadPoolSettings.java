@@ -0,0 +1,40 @@
+package fr.techcrud.pmt_api.utils;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dimensionne le pool Hikari pour le mode « threads virtuels ».
+ * <p>
+ * En threads plateforme, les 200 threads Tomcat bornent déjà la concurrence et le pool garde les valeurs
+ * de {@code spring.datasource.hikari.*}. En threads virtuels, le pool devient la seule borne vers MySQL :
+ * {@code virtual-threads.db.maximum-pool-size} connexions et une attente courte
+ * ({@code virtual-threads.db.connection-timeout-ms}), pour échouer vite plutôt que d'empiler les requêtes.
+ * Appliqué après le binding des propriétés et avant la première connexion (le pool n'est pas encore démarré).
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPoolSettings implements BeanPostProcessor {
+
+    private final int maximumPoolSize;
+    private final long connectionTimeoutMs;
+
+    public VirtualThreadPoolSettings(
+            @Value("${virtual-threads.db.maximum-pool-size:20}") int maximumPoolSize,
+            @Value("${virtual-threads.db.connection-timeout-ms:5000}") long connectionTimeoutMs) {
+        this.maximumPoolSize = maximumPoolSize;
+        this.connectionTimeoutMs = connectionTimeoutMs;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+            dataSource.setMaximumPoolSize(maximumPoolSize);
+            dataSource.setConnectionTimeout(connectionTimeoutMs);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,3 @@
+-- Index pour la liste paginée des utilisateurs filtrée par rôle (pagination par id)
+
+CREATE INDEX idx_user_role_id ON user (role, id);
@@ -0,0 +1,96 @@
+-- Passage des clés primaires et étrangères de CHAR(36) à BINARY(16).
+-- Les UUID existants sont convertis tels quels (UUID_TO_BIN sans inversion des octets),
+-- les nouvelles lignes reçoivent des UUID v7 ordonnés dans le temps générés par Hibernate.
+-- Pour chaque colonne : CHAR(36) -> VARBINARY(36) (octets ASCII conservés), conversion, puis BINARY(16).
+
+-- 1. Contraintes et index qui référencent les colonnes converties
+
+ALTER TABLE project DROP FOREIGN KEY FKte6bms4bq1ixfhn024qtysmcg;
+ALTER TABLE project_member DROP FOREIGN KEY FK103dwxad12nbaxtmnwus4eft2;
+ALTER TABLE project_member DROP FOREIGN KEY FK6s59w9jalg0dperffu3ri91or;
+ALTER TABLE task DROP FOREIGN KEY FKsrodfgrekcvv8ksyslehr53j8;
+ALTER TABLE task DROP FOREIGN KEY FKk8qrwowg31kx7hp93sru1pdqa;
+ALTER TABLE task_history DROP FOREIGN KEY FKj304fjm2ls6x3srwt122l9tn2;
+ALTER TABLE task_history DROP FOREIGN KEY FKer57q2libi1e9njpj6faoxd2i;
+
+DROP INDEX idx_user_role_id ON user;
+
+-- 2. user
+
+ALTER TABLE user MODIFY id VARBINARY(36) NOT NULL;
+UPDATE user SET id = UUID_TO_BIN(id);
+ALTER TABLE user MODIFY id BINARY(16) NOT NULL;
+
+-- 3. project
+
+ALTER TABLE project
+    MODIFY id VARBINARY(36) NOT NULL,
+    MODIFY author_id VARBINARY(36) NOT NULL;
+UPDATE project SET id = UUID_TO_BIN(id), author_id = UUID_TO_BIN(author_id);
+ALTER TABLE project
+    MODIFY id BINARY(16) NOT NULL,
+    MODIFY author_id BINARY(16) NOT NULL;
+
+-- 4. project_member
+
+ALTER TABLE project_member
+    MODIFY id VARBINARY(36) NOT NULL,
+    MODIFY project_id VARBINARY(36) NOT NULL,
+    MODIFY user_id VARBINARY(36) NOT NULL;
+UPDATE project_member
+SET id = UUID_TO_BIN(id), project_id = UUID_TO_BIN(project_id), user_id = UUID_TO_BIN(user_id);
+ALTER TABLE project_member
+    MODIFY id BINARY(16) NOT NULL,
+    MODIFY project_id BINARY(16) NOT NULL,
+    MODIFY user_id BINARY(16) NOT NULL;
+
+-- 5. task
+
+ALTER TABLE task
+    MODIFY id VARBINARY(36) NOT NULL,
+    MODIFY project_id VARBINARY(36) NOT NULL,
+    MODIFY assignee_id VARBINARY(36) NOT NULL;
+UPDATE task
+SET id = UUID_TO_BIN(id), project_id = UUID_TO_BIN(project_id), assignee_id = UUID_TO_BIN(assignee_id);
+ALTER TABLE task
+    MODIFY id BINARY(16) NOT NULL,
+    MODIFY project_id BINARY(16) NOT NULL,
+    MODIFY assignee_id BINARY(16) NOT NULL;
+
+-- 6. task_history
+
+ALTER TABLE task_history
+    MODIFY id VARBINARY(36) NOT NULL,
+    MODIFY task_id VARBINARY(36) NOT NULL,
+    MODIFY modifier_id VARBINARY(36) NOT NULL;
+UPDATE task_history
+SET id = UUID_TO_BIN(id), task_id = UUID_TO_BIN(task_id), modifier_id = UUID_TO_BIN(modifier_id);
+ALTER TABLE task_history
+    MODIFY id BINARY(16) NOT NULL,
+    MODIFY task_id BINARY(16) NOT NULL,
+    MODIFY modifier_id BINARY(16) NOT NULL;
+
+-- 7. Recréation des index et contraintes
+
+CREATE INDEX idx_user_role_id ON user (role, id);
+
+ALTER TABLE project
+    ADD CONSTRAINT FKte6bms4bq1ixfhn024qtysmcg FOREIGN KEY (author_id) REFERENCES user (id);
+
+ALTER TABLE project_member
+    ADD CONSTRAINT FK103dwxad12nbaxtmnwus4eft2 FOREIGN KEY (project_id) REFERENCES project (id);
+
+ALTER TABLE project_member
+    ADD CONSTRAINT FK6s59w9jalg0dperffu3ri91or FOREIGN KEY (user_id) REFERENCES user (id);
+
+ALTER TABLE task
+    ADD CONSTRAINT FKsrodfgrekcvv8ksyslehr53j8 FOREIGN KEY (assignee_id) REFERENCES user (id);
+
+ALTER TABLE task
+    ADD CONSTRAINT FKk8qrwowg31kx7hp93sru1pdqa FOREIGN KEY (project_id) REFERENCES project (id);
+
+ALTER TABLE task_history
+    ADD CONSTRAINT FKj304fjm2ls6x3srwt122l9tn2 FOREIGN KEY (modifier_id) REFERENCES user (id);
+
+ALTER TABLE task_history
+    ADD CONSTRAINT FKer57q2libi1e9njpj6faoxd2i FOREIGN KEY (task_id) REFERENCES task (id);
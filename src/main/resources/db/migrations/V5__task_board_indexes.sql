@@ -0,0 +1,19 @@
+-- Alignement des enums de task sur TaskStatus / TaskPriority, puis index de la liste des tâches d'un projet
+
+-- 1. Enums : on élargit, on convertit les anciennes valeurs, puis on restreint
+ALTER TABLE task
+    MODIFY status ENUM ('ARCHIVED','DONE','IN_PROGRESS','TODO','OVERDUE','COMPLETED') NOT NULL,
+    MODIFY priority ENUM ('CRITICAL','HIGH','LOW','MEDIUM') NOT NULL;
+
+UPDATE task SET status = 'COMPLETED' WHERE status IN ('ARCHIVED', 'DONE');
+UPDATE task SET priority = 'HIGH' WHERE priority = 'CRITICAL';
+
+ALTER TABLE task
+    MODIFY status ENUM ('TODO','IN_PROGRESS','OVERDUE','COMPLETED') NOT NULL,
+    MODIFY priority ENUM ('LOW','MEDIUM','HIGH') NOT NULL;
+
+-- 2. Index composites : un par filtre de la liste, tous triés par (due_date, id) pour la pagination par clé
+CREATE INDEX idx_task_project_due ON task (project_id, due_date, id);
+CREATE INDEX idx_task_project_status_due ON task (project_id, status, due_date, id);
+CREATE INDEX idx_task_project_priority_due ON task (project_id, priority, due_date, id);
+CREATE INDEX idx_task_project_assignee_due ON task (project_id, assignee_id, due_date, id);
@@ -0,0 +1,21 @@
+-- Compteurs de tableau de bord par projet, maintenus dans la même transaction que les écritures sur task.
+-- dimension : STATUS (clé = statut), PRIORITY (clé = priorité), ASSIGNEE (clé = id de l'assigné, tâches non terminées)
+
+CREATE TABLE project_task_counter (
+    project_id BINARY(16) NOT NULL,
+    dimension VARCHAR(16) NOT NULL,
+    dimension_key VARCHAR(36) NOT NULL,
+    task_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (project_id, dimension, dimension_key)
+) engine=InnoDB;
+
+INSERT INTO project_task_counter (project_id, dimension, dimension_key, task_count)
+SELECT project_id, 'STATUS', status, COUNT(*) FROM task GROUP BY project_id, status;
+
+INSERT INTO project_task_counter (project_id, dimension, dimension_key, task_count)
+SELECT project_id, 'PRIORITY', priority, COUNT(*) FROM task GROUP BY project_id, priority;
+
+INSERT INTO project_task_counter (project_id, dimension, dimension_key, task_count)
+SELECT project_id, 'ASSIGNEE', BIN_TO_UUID(assignee_id), COUNT(*) FROM task
+WHERE status <> 'COMPLETED'
+GROUP BY project_id, assignee_id;
@@ -0,0 +1,34 @@
+-- Partitionnement mensuel de task_history sur modified_at, lignes compressées.
+-- MySQL refuse les clés étrangères sur une table partitionnée et exige que la colonne de partitionnement
+-- fasse partie de chaque clé unique : les FK sont supprimées et la clé primaire devient (id, modified_at).
+
+-- 1. Contraintes et clés
+ALTER TABLE task_history DROP FOREIGN KEY FKj304fjm2ls6x3srwt122l9tn2;
+ALTER TABLE task_history DROP FOREIGN KEY FKer57q2libi1e9njpj6faoxd2i;
+
+-- L'index laissé par la FK sur task_id est remplacé par (task_id, modified_at)
+ALTER TABLE task_history
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, modified_at),
+    DROP INDEX FKer57q2libi1e9njpj6faoxd2i,
+    ADD INDEX idx_task_history_task_modified (task_id, modified_at),
+    ROW_FORMAT = COMPRESSED KEY_BLOCK_SIZE = 8;
+
+-- 2. Partitions : tout l'existant dans p_before, le mois courant et les trois suivants, puis p_future.
+-- Les mois suivants sont créés par TaskHistoryArchiver en découpant p_future.
+SET @month = DATE_FORMAT(CURDATE(), '%Y-%m-01');
+SET @ddl = CONCAT(
+    'ALTER TABLE task_history PARTITION BY RANGE COLUMNS (modified_at) (',
+    'PARTITION p_before VALUES LESS THAN (''', @month, '''), ',
+    'PARTITION p', DATE_FORMAT(@month, '%Y%m'),
+        ' VALUES LESS THAN (''', DATE_ADD(@month, INTERVAL 1 MONTH), '''), ',
+    'PARTITION p', DATE_FORMAT(DATE_ADD(@month, INTERVAL 1 MONTH), '%Y%m'),
+        ' VALUES LESS THAN (''', DATE_ADD(@month, INTERVAL 2 MONTH), '''), ',
+    'PARTITION p', DATE_FORMAT(DATE_ADD(@month, INTERVAL 2 MONTH), '%Y%m'),
+        ' VALUES LESS THAN (''', DATE_ADD(@month, INTERVAL 3 MONTH), '''), ',
+    'PARTITION p', DATE_FORMAT(DATE_ADD(@month, INTERVAL 3 MONTH), '%Y%m'),
+        ' VALUES LESS THAN (''', DATE_ADD(@month, INTERVAL 4 MONTH), '''), ',
+    'PARTITION p_future VALUES LESS THAN (MAXVALUE))');
+PREPARE partition_stmt FROM @ddl;
+EXECUTE partition_stmt;
+DEALLOCATE PREPARE partition_stmt;
@@ -0,0 +1,7 @@
+-- Passage automatique des tâches en OVERDUE (OverdueTaskScheduler)
+
+-- 1. Recherche des tâches échues par statut puis échéance
+CREATE INDEX idx_task_status_due ON task (status, due_date);
+
+-- 2. Les changements faits par le système n'ont pas d'auteur
+ALTER TABLE task_history MODIFY modifier_id BINARY(16) NULL;
@@ -0,0 +1,7 @@
+-- Colonne de version (@Version) : verrou optimiste et ETag.
+-- task_history n'en a pas : ses lignes ne sont jamais modifiées.
+
+ALTER TABLE user ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE project ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE project_member ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE task ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,112 @@
+package fr.techcrud.pmt_api;
+
+import fr.techcrud.pmt_api.utils.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Les routes réservées au rôle ADMIN (exports, actuator, maintenance de l'index de recherche) restent
+ * fermées à un compte qui tente de s'attribuer ce rôle à l'inscription ou via PUT /users/me.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class AdminRoutesSecurityTests {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private String email;
+
+    @BeforeEach
+    void registerAndEscalate() throws Exception {
+        email = UUID.randomUUID() + "@example.test";
+        String body = "{\"email\":\"" + email + "\",\"password\":\"password\",\"firstName\":\"Eve\","
+                + "\"lastName\":\"Mallory\",\"role\":\"ADMIN\"}";
+        assertEquals(201, send(json("/api/v1/auth/register").POST(bodyOf(body)).build()).statusCode());
+
+        String token = login();
+        String update = "{\"firstName\":\"Eve\",\"lastName\":\"Mallory\",\"password\":\"password\",\"role\":\"ADMIN\"}";
+        assertEquals(200, send(json("/api/v1/users/me").header("Authorization", "Bearer " + token)
+                .PUT(bodyOf(update)).build()).statusCode());
+    }
+
+    @Test
+    void selfGrantedAdminIsRejected() throws Exception {
+        String token = login();
+
+        assertEquals(403, get("/api/v1/exports/users", token));
+        assertEquals(403, get("/actuator/metrics", token));
+        assertEquals(403, get("/api/v1/search/tasks/stats", token));
+        assertEquals(403, send(request("/api/v1/search/tasks/rebuild", token)
+                .POST(HttpRequest.BodyPublishers.noBody()).build()).statusCode());
+    }
+
+    @Test
+    void administratorIsAllowed() throws Exception {
+        String token = jwtUtil.generateToken(UUID.randomUUID(), "admin@example.test", "ADMIN");
+
+        assertEquals(200, get("/actuator/metrics", token));
+        assertEquals(200, get("/api/v1/search/tasks/stats", token));
+    }
+
+    @Test
+    void profileUpdateWithoutPasswordKeepsIt() throws Exception {
+        String update = "{\"firstName\":\"Eve\",\"lastName\":\"Smith\"}";
+        assertEquals(200, send(json("/api/v1/users/me").header("Authorization", "Bearer " + login())
+                .PUT(bodyOf(update)).build()).statusCode());
+
+        login();
+    }
+
+    private String login() throws Exception {
+        String body = "{\"email\":\"" + email + "\",\"password\":\"password\"}";
+        HttpResponse<String> response = send(json("/api/v1/auth/login").POST(bodyOf(body)).build());
+        assertEquals(200, response.statusCode());
+        Matcher matcher = TOKEN.matcher(response.body());
+        assertTrue(matcher.find(), response.body());
+        return matcher.group(1);
+    }
+
+    private int get(String path, String token) throws Exception {
+        return send(request(path, token).GET().build()).statusCode();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token);
+    }
+
+    private HttpRequest.Builder json(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json");
+    }
+
+    private static HttpRequest.BodyPublisher bodyOf(String body) {
+        return HttpRequest.BodyPublishers.ofString(body);
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
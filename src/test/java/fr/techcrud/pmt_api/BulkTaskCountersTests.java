@@ -0,0 +1,159 @@
+package fr.techcrud.pmt_api;
+
+import fr.techcrud.pmt_api.dto.BulkTaskItemResultDto;
+import fr.techcrud.pmt_api.dto.BulkTaskOperationDto;
+import fr.techcrud.pmt_api.dto.BulkTaskResultDto;
+import fr.techcrud.pmt_api.dto.TaskRequestDto;
+import fr.techcrud.pmt_api.enums.BulkOperationType;
+import fr.techcrud.pmt_api.enums.TaskPriority;
+import fr.techcrud.pmt_api.enums.TaskStatus;
+import fr.techcrud.pmt_api.services.TaskService;
+import fr.techcrud.pmt_api.utils.Uuids;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Lot de créations, modifications et suppressions en une transaction : résultat par opération, compteurs
+ * du tableau de bord appliqués une seule fois, et rien d'écrit (tâches comme compteurs) si une opération échoue.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BulkTaskCountersTests {
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID projectId;
+    private UUID alice;
+    private UUID bob;
+
+    @BeforeEach
+    void seedProject() {
+        alice = user();
+        bob = user();
+        projectId = Uuids.timeOrdered();
+        jdbcTemplate.update("INSERT INTO project (id, name, description, author_id, created_at) "
+                + "VALUES (?, 'Bulk', 'Bulk operations', ?, ?)", Uuids.toBytes(projectId), Uuids.toBytes(alice),
+                LocalDateTime.now());
+    }
+
+    @Test
+    void bulkAppliesAllDeltasOnce() {
+        UUID updated = create(alice, TaskStatus.TODO, TaskPriority.LOW);
+        UUID deleted = create(bob, TaskStatus.IN_PROGRESS, TaskPriority.MEDIUM);
+
+        BulkTaskResultDto result = taskService.bulk(projectId, List.of(
+                operation(BulkOperationType.CREATE, null, request(bob, TaskStatus.TODO, TaskPriority.HIGH)),
+                operation(BulkOperationType.CREATE, null, request(alice, null, null)),
+                operation(BulkOperationType.UPDATE, updated, request(bob, TaskStatus.COMPLETED, null)),
+                operation(BulkOperationType.DELETE, deleted, null)));
+
+        assertTrue(result.isApplied());
+        assertEquals(4, result.getResults().size());
+        for (int i = 0; i < 4; i++) {
+            BulkTaskItemResultDto item = result.getResults().get(i);
+            assertEquals(i, item.getIndex());
+            assertTrue(item.isSuccess());
+        }
+        assertEquals(updated, result.getResults().get(2).getId());
+        assertEquals(3, taskCount());
+        assertCountersMatchTasks();
+    }
+
+    @Test
+    void rejectedBulkLeavesCountsUntouched() {
+        create(alice, TaskStatus.TODO, TaskPriority.LOW);
+        Map<String, Long> before = counters();
+
+        BulkTaskResultDto result = taskService.bulk(projectId, List.of(
+                operation(BulkOperationType.CREATE, null, request(bob, TaskStatus.TODO, TaskPriority.HIGH)),
+                operation(BulkOperationType.DELETE, Uuids.timeOrdered(), null)));
+
+        assertFalse(result.isApplied());
+        assertEquals("Task not found", result.getResults().get(1).getError());
+        assertEquals(1, taskCount());
+        assertEquals(before, counters());
+        assertCountersMatchTasks();
+    }
+
+    @Test
+    void createWithoutAssigneeIsRejected() {
+        BulkTaskResultDto result = taskService.bulk(projectId, List.of(
+                operation(BulkOperationType.CREATE, null, request(null, TaskStatus.TODO, null))));
+
+        assertFalse(result.isApplied());
+        assertEquals("assigneeId is required", result.getResults().get(0).getError());
+        assertEquals(0, taskCount());
+    }
+
+    private void assertCountersMatchTasks() {
+        Map<String, Long> expected = new TreeMap<>();
+        jdbcTemplate.query("SELECT status, priority, assignee_id FROM task WHERE project_id = ?", rs -> {
+            expected.merge("STATUS/" + rs.getString(1), 1L, Long::sum);
+            expected.merge("PRIORITY/" + rs.getString(2), 1L, Long::sum);
+            if (!TaskStatus.COMPLETED.name().equals(rs.getString(1))) {
+                expected.merge("ASSIGNEE/" + Uuids.fromBytes(rs.getBytes(3)), 1L, Long::sum);
+            }
+        }, (Object) Uuids.toBytes(projectId));
+        assertEquals(expected, counters());
+    }
+
+    // dimension/clé -> compte, sans les lignes retombées à zéro
+    private Map<String, Long> counters() {
+        Map<String, Long> counters = new TreeMap<>();
+        jdbcTemplate.query("SELECT dimension, dimension_key, task_count FROM project_task_counter "
+                + "WHERE project_id = ? AND task_count <> 0", rs -> {
+            counters.put(rs.getString(1) + "/" + rs.getString(2), rs.getLong(3));
+        }, (Object) Uuids.toBytes(projectId));
+        return counters;
+    }
+
+    private int taskCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task WHERE project_id = ?", Integer.class,
+                (Object) Uuids.toBytes(projectId));
+    }
+
+    private UUID create(UUID assignee, TaskStatus status, TaskPriority priority) {
+        return taskService.create(projectId, request(assignee, status, priority)).getId();
+    }
+
+    private static TaskRequestDto request(UUID assignee, TaskStatus status, TaskPriority priority) {
+        TaskRequestDto task = new TaskRequestDto();
+        task.setName("Bulk task");
+        task.setAssigneeId(assignee);
+        task.setStatus(status);
+        task.setPriority(priority);
+        return task;
+    }
+
+    private static BulkTaskOperationDto operation(BulkOperationType op, UUID id, TaskRequestDto task) {
+        BulkTaskOperationDto operation = new BulkTaskOperationDto();
+        operation.setOp(op);
+        operation.setId(id);
+        operation.setTask(task);
+        return operation;
+    }
+
+    private UUID user() {
+        UUID id = Uuids.timeOrdered();
+        jdbcTemplate.update("INSERT INTO user (id, email, first_name, last_name, password, role) "
+                + "VALUES (?, ?, 'Ada', 'Lovelace', '{noop}unused', 'USER')", Uuids.toBytes(id), id + "@example.test");
+        return id;
+    }
+}
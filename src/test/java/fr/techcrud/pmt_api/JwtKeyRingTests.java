@@ -0,0 +1,61 @@
+package fr.techcrud.pmt_api;
+
+import fr.techcrud.pmt_api.utils.JwtKeyRing;
+import fr.techcrud.pmt_api.utils.JwtUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtKeyRingTests {
+
+    private static final String SECRET_A = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final String SECRET_B = Base64.getEncoder().encodeToString("b".repeat(32).getBytes());
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void keyFileWithoutActiveKidFailsStartup() throws IOException {
+        Path file = Files.writeString(directory.resolve("keys.properties"),
+                "a=" + SECRET_A + "\nb=" + SECRET_B + "\n");
+
+        assertThrows(IllegalStateException.class, () -> new JwtKeyRing("", file.toString(), ""));
+    }
+
+    @Test
+    void keyFileSignsWithDeclaredActiveKid() throws IOException {
+        Path file = Files.writeString(directory.resolve("keys.properties"),
+                "b=" + SECRET_B + "\nactive=a\na=" + SECRET_A + "\n");
+
+        assertEquals("a", new JwtKeyRing("", file.toString(), "").getActiveKey().kid());
+        assertEquals("b", new JwtKeyRing("", file.toString(), "b").getActiveKey().kid());
+    }
+
+    @Test
+    void tokenWithoutKidIsRejectedAsBadSignature() {
+        for (JwtKeyRing keyRing : List.of(new JwtKeyRing("a:" + SECRET_A, "", "a"), new JwtKeyRing("", "", ""))) {
+            String token = Jwts.builder()
+                    .setSubject("ada@example.test")
+                    .signWith(keyRing.getActiveKey().key(), SignatureAlgorithm.HS256)
+                    .compact();
+
+            assertThrows(SignatureException.class, () -> new JwtUtil(keyRing).parse(token));
+        }
+    }
+
+    @Test
+    void inlineKeysSignWithLastListedKid() {
+        assertEquals("b", new JwtKeyRing("a:" + SECRET_A + ",b:" + SECRET_B, "", "").getActiveKey().kid());
+    }
+}
@@ -0,0 +1,132 @@
+package fr.techcrud.pmt_api;
+
+import fr.techcrud.pmt_api.dto.TaskRequestDto;
+import fr.techcrud.pmt_api.enums.TaskStatus;
+import fr.techcrud.pmt_api.services.OverdueTaskScheduler;
+import fr.techcrud.pmt_api.services.TaskService;
+import fr.techcrud.pmt_api.utils.Uuids;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Passage en OVERDUE appelé directement sur H2 : statut et version des tâches échues, compteurs, historique
+ * sans auteur, et boucle par lots (lots de 2 pour 5 tâches). Le SELECT ... FOR UPDATE SKIP LOCKED est
+ * seulement exécuté ici ; le partage des lignes entre nœuds relève de MySQL.
+ */
+@SpringBootTest(properties = "tasks.overdue.chunk-size=2")
+@ActiveProfiles("test")
+class OverdueTaskSchedulerTests {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private OverdueTaskScheduler overdueTaskScheduler;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID projectId;
+    private UUID assignee;
+
+    @BeforeEach
+    void seedProject() {
+        assignee = Uuids.timeOrdered();
+        jdbcTemplate.update("INSERT INTO user (id, email, first_name, last_name, password, role) "
+                + "VALUES (?, ?, 'Ada', 'Lovelace', '{noop}unused', 'USER')", Uuids.toBytes(assignee),
+                assignee + "@example.test");
+        projectId = Uuids.timeOrdered();
+        jdbcTemplate.update("INSERT INTO project (id, name, description, author_id, created_at) "
+                + "VALUES (?, 'Overdue', 'Overdue sweep', ?, ?)", Uuids.toBytes(projectId), Uuids.toBytes(assignee),
+                LocalDateTime.now());
+    }
+
+    @Test
+    void sweepMarksOverdueTasksChunkByChunk() throws InterruptedException {
+        List<UUID> overdue = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            overdue.add(create(i % 2 == 0 ? TaskStatus.TODO : TaskStatus.IN_PROGRESS, TODAY.minusDays(i + 1)));
+        }
+        UUID completed = create(TaskStatus.COMPLETED, TODAY.minusDays(1));
+        UUID dueToday = create(TaskStatus.TODO, TODAY);
+        long completedVersion = version(completed);
+        long dueTodayVersion = version(dueToday);
+        List<Long> versions = overdue.stream().map(this::version).toList();
+
+        overdueTaskScheduler.markOverdueTasks();
+
+        // 2 + 2 + 1 : la boucle s'arrête au premier lot incomplet
+        assertEquals(5, overdueTaskScheduler.getLastRunCount());
+        for (int i = 0; i < overdue.size(); i++) {
+            assertEquals(TaskStatus.OVERDUE.name(), status(overdue.get(i)));
+            assertEquals(versions.get(i) + 1, version(overdue.get(i)));
+        }
+        assertEquals(TaskStatus.COMPLETED.name(), status(completed));
+        assertEquals(completedVersion, version(completed));
+        assertEquals(TaskStatus.TODO.name(), status(dueToday));
+        assertEquals(dueTodayVersion, version(dueToday));
+        assertEquals(5L, counter("STATUS", TaskStatus.OVERDUE.name()));
+        assertEquals(1L, counter("STATUS", TaskStatus.TODO.name()));
+
+        // Historique écrit en différé par le buffer, une ligne par tâche, sans auteur
+        assertEquals(5, awaitHistory(5));
+        assertEquals(5, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_history h JOIN task t "
+                + "ON t.id = h.task_id WHERE t.project_id = ? AND h.change_type = 'STATUS' "
+                + "AND h.new_value = 'OVERDUE' AND h.modifier_id IS NULL", Integer.class,
+                (Object) Uuids.toBytes(projectId)));
+
+        overdueTaskScheduler.markOverdueTasks();
+        assertEquals(0, overdueTaskScheduler.getLastRunCount());
+    }
+
+    private UUID create(TaskStatus status, LocalDate dueDate) {
+        TaskRequestDto task = new TaskRequestDto();
+        task.setName("Task due " + dueDate);
+        task.setAssigneeId(assignee);
+        task.setStatus(status);
+        task.setDueDate(dueDate);
+        return taskService.create(projectId, task).getId();
+    }
+
+    private int awaitHistory(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        int count;
+        do {
+            count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_history h JOIN task t "
+                    + "ON t.id = h.task_id WHERE t.project_id = ? AND h.new_value = 'OVERDUE'", Integer.class,
+                    (Object) Uuids.toBytes(projectId));
+            if (count < expected) {
+                Thread.sleep(50);
+            }
+        } while (count < expected && System.currentTimeMillis() < deadline);
+        return count;
+    }
+
+    private long counter(String dimension, String key) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(task_count), 0) FROM project_task_counter "
+                + "WHERE project_id = ? AND dimension = ? AND dimension_key = ?", Long.class,
+                Uuids.toBytes(projectId), dimension, key);
+    }
+
+    private String status(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT status FROM task WHERE id = ?", String.class,
+                (Object) Uuids.toBytes(id));
+    }
+
+    private long version(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT version FROM task WHERE id = ?", Long.class,
+                (Object) Uuids.toBytes(id));
+    }
+}
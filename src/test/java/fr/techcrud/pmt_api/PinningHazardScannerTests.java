@@ -0,0 +1,89 @@
+package fr.techcrud.pmt_api;
+
+import fr.techcrud.pmt_api.services.OverdueTaskScheduler;
+import fr.techcrud.pmt_api.services.TaskEventStream;
+import fr.techcrud.pmt_api.services.TaskHistoryBuffer;
+import fr.techcrud.pmt_api.services.TaskSearchIndex;
+import fr.techcrud.pmt_api.services.TaskServiceImpl;
+import fr.techcrud.pmt_api.utils.PinningHazardScanner;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Contrôle de démarrage du mode « threads virtuels » : les sections synchronized (méthodes, blocs, y compris
+ * dans les classes anonymes) qui entourent un appel bloquant sont relevées, les sections courtes ne le sont pas.
+ */
+class PinningHazardScannerTests {
+
+    @Test
+    void synchronizedSectionsAroundBlockingCallsAreReported() {
+        List<String> hazards = PinningHazardScanner.scan(List.of(Hazards.class));
+
+        assertEquals(List.of(
+                "PinningHazardScannerTests$Hazards$1.run: synchronized block around Thread.sleep",
+                "PinningHazardScannerTests$Hazards.count: synchronized block around JdbcTemplate.queryForObject",
+                "PinningHazardScannerTests$Hazards.next: synchronized method around BlockingQueue.take",
+                "PinningHazardScannerTests$Hazards.pause: synchronized block around Thread.sleep"), hazards);
+    }
+
+    @Test
+    void hotServicesHaveNoHazard() {
+        assertEquals(List.of(), PinningHazardScanner.scan(List.of(TaskServiceImpl.class, TaskSearchIndex.class,
+                TaskEventStream.class, TaskHistoryBuffer.class, OverdueTaskScheduler.class)));
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Hazards {
+
+        private final Object lock = new Object();
+        private JdbcTemplate jdbcTemplate;
+        private BlockingQueue<String> queue;
+        private long counter;
+
+        long count() {
+            synchronized (lock) {
+                return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task", Long.class);
+            }
+        }
+
+        synchronized String next() throws InterruptedException {
+            return queue.take();
+        }
+
+        void pause() throws InterruptedException {
+            synchronized (lock) {
+                counter++;
+                Thread.sleep(10);
+            }
+            // Hors du bloc : pas relevé
+            queue.take();
+        }
+
+        // Section courte, sans appel bloquant
+        void increment() {
+            synchronized (lock) {
+                counter++;
+            }
+        }
+
+        Runnable later() {
+            return new Runnable() {
+                @Override
+                public void run() {
+                    synchronized (lock) {
+                        try {
+                            Thread.sleep(10);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package fr.techcrud.pmt_api;
+
+import fr.techcrud.pmt_api.dto.TaskRequestDto;
+import fr.techcrud.pmt_api.enums.TaskPriority;
+import fr.techcrud.pmt_api.enums.TaskStatus;
+import fr.techcrud.pmt_api.services.ProjectTaskCounterReconciler;
+import fr.techcrud.pmt_api.services.TaskService;
+import fr.techcrud.pmt_api.utils.Uuids;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compteurs du tableau de bord (project_task_counter) après création, mise à jour et suppression :
+ * ils doivent toujours égaler un recomptage de la table task, et le rapprochement corrige un écart.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProjectTaskCountersTests {
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private ProjectTaskCounterReconciler projectTaskCounterReconciler;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID projectId;
+    private UUID alice;
+    private UUID bob;
+
+    @BeforeEach
+    void seedProject() {
+        alice = user();
+        bob = user();
+        projectId = Uuids.timeOrdered();
+        jdbcTemplate.update("INSERT INTO project (id, name, description, author_id, created_at) "
+                + "VALUES (?, 'Counters', 'Dashboard counters', ?, ?)", Uuids.toBytes(projectId), Uuids.toBytes(alice),
+                LocalDateTime.now());
+    }
+
+    @Test
+    void createAndUpdateMoveCounts() {
+        UUID id = create(alice, TaskStatus.TODO, TaskPriority.LOW);
+        create(bob, TaskStatus.IN_PROGRESS, TaskPriority.HIGH);
+        assertCountersMatchTasks();
+
+        // Changement de statut, de priorité et d'assigné en une mise à jour
+        taskService.update(id, request(bob, TaskStatus.IN_PROGRESS, TaskPriority.HIGH), null);
+        assertCountersMatchTasks();
+        assertEquals(2L, counters().get("ASSIGNEE/" + bob));
+
+        // Terminée : elle sort de la charge de son assigné
+        taskService.update(id, request(null, TaskStatus.COMPLETED, null), null);
+        assertCountersMatchTasks();
+        assertEquals(1L, counters().get("ASSIGNEE/" + bob));
+    }
+
+    @Test
+    void deleteRemovesCounts() {
+        UUID id = create(alice, TaskStatus.TODO, TaskPriority.MEDIUM);
+        create(alice, TaskStatus.COMPLETED, TaskPriority.MEDIUM);
+
+        assertTrue(taskService.delete(id));
+
+        assertCountersMatchTasks();
+        assertEquals(0L, counters().getOrDefault("STATUS/TODO", 0L));
+    }
+
+    @Test
+    void reconcilerRepairsDriftedCounters() {
+        create(alice, TaskStatus.TODO, TaskPriority.LOW);
+        create(bob, TaskStatus.IN_PROGRESS, TaskPriority.HIGH);
+        // Écart volontaire : une ligne faussée et une ligne en trop
+        jdbcTemplate.update("UPDATE project_task_counter SET task_count = task_count + 5 "
+                + "WHERE project_id = ? AND dimension = 'STATUS' AND dimension_key = 'TODO'",
+                (Object) Uuids.toBytes(projectId));
+        jdbcTemplate.update("INSERT INTO project_task_counter (project_id, dimension, dimension_key, task_count) "
+                + "VALUES (?, 'STATUS', 'OVERDUE', 3)", (Object) Uuids.toBytes(projectId));
+
+        projectTaskCounterReconciler.reconcile();
+
+        assertCountersMatchTasks();
+    }
+
+    private void assertCountersMatchTasks() {
+        Map<String, Long> expected = new TreeMap<>();
+        jdbcTemplate.query("SELECT status, priority, assignee_id FROM task WHERE project_id = ?", rs -> {
+            expected.merge("STATUS/" + rs.getString(1), 1L, Long::sum);
+            expected.merge("PRIORITY/" + rs.getString(2), 1L, Long::sum);
+            if (!TaskStatus.COMPLETED.name().equals(rs.getString(1))) {
+                expected.merge("ASSIGNEE/" + Uuids.fromBytes(rs.getBytes(3)), 1L, Long::sum);
+            }
+        }, (Object) Uuids.toBytes(projectId));
+        assertEquals(expected, counters());
+    }
+
+    // dimension/clé -> compte, sans les lignes retombées à zéro
+    private Map<String, Long> counters() {
+        Map<String, Long> counters = new TreeMap<>();
+        jdbcTemplate.query("SELECT dimension, dimension_key, task_count FROM project_task_counter "
+                + "WHERE project_id = ? AND task_count <> 0", rs -> {
+            counters.put(rs.getString(1) + "/" + rs.getString(2), rs.getLong(3));
+        }, (Object) Uuids.toBytes(projectId));
+        return counters;
+    }
+
+    private UUID create(UUID assignee, TaskStatus status, TaskPriority priority) {
+        return taskService.create(projectId, request(assignee, status, priority)).getId();
+    }
+
+    private static TaskRequestDto request(UUID assignee, TaskStatus status, TaskPriority priority) {
+        TaskRequestDto task = new TaskRequestDto();
+        task.setName("Counted task");
+        task.setAssigneeId(assignee);
+        task.setStatus(status);
+        task.setPriority(priority);
+        return task;
+    }
+
+    private UUID user() {
+        UUID id = Uuids.timeOrdered();
+        jdbcTemplate.update("INSERT INTO user (id, email, first_name, last_name, password, role) "
+                + "VALUES (?, ?, 'Ada', 'Lovelace', '{noop}unused', 'USER')", Uuids.toBytes(id), id + "@example.test");
+        return id;
+    }
+}
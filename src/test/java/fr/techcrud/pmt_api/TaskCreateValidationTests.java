@@ -0,0 +1,91 @@
+package fr.techcrud.pmt_api;
+
+import com.jayway.jsonpath.JsonPath;
+import fr.techcrud.pmt_api.utils.JwtUtil;
+import fr.techcrud.pmt_api.utils.Uuids;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Création de tâche : un assigné absent est une requête invalide (400, validation du DTO), un assigné
+ * inconnu une ressource introuvable (404). La mise à jour partielle peut toujours omettre l'assigné.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskCreateValidationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String bearer;
+    private UUID author;
+    private UUID projectId;
+
+    @BeforeEach
+    void seedProject() {
+        author = Uuids.timeOrdered();
+        jdbcTemplate.update("INSERT INTO user (id, email, first_name, last_name, password, role) "
+                + "VALUES (?, ?, 'Ada', 'Lovelace', '{noop}unused', 'USER')", Uuids.toBytes(author),
+                author + "@example.test");
+        projectId = Uuids.timeOrdered();
+        jdbcTemplate.update("INSERT INTO project (id, name, description, author_id, created_at) "
+                + "VALUES (?, 'Validation', 'Task validation', ?, ?)", Uuids.toBytes(projectId),
+                Uuids.toBytes(author), LocalDateTime.now());
+        bearer = "Bearer " + jwtUtil.generateToken(author, author + "@example.test", "USER");
+    }
+
+    @Test
+    void createWithoutAssigneeIsBadRequest() throws Exception {
+        mockMvc.perform(createTask("{\"name\":\"No assignee\"}")).andExpect(status().isBadRequest());
+
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task WHERE project_id = ?",
+                Integer.class, (Object) Uuids.toBytes(projectId)));
+    }
+
+    @Test
+    void createWithUnknownAssigneeIsNotFound() throws Exception {
+        mockMvc.perform(createTask("{\"name\":\"Ghost\",\"assigneeId\":\"" + Uuids.timeOrdered() + "\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void partialUpdateMayOmitAssignee() throws Exception {
+        String created = mockMvc.perform(createTask("{\"name\":\"Assigned\",\"assigneeId\":\"" + author + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String id = JsonPath.read(created, "$.id");
+
+        mockMvc.perform(put("/api/v1/tasks/" + id).header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"Renamed\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Renamed"));
+    }
+
+    private MockHttpServletRequestBuilder createTask(String body) {
+        return post("/api/v1/projects/" + projectId + "/tasks").header(HttpHeaders.AUTHORIZATION, bearer)
+                .contentType(MediaType.APPLICATION_JSON).content(body);
+    }
+}
@@ -0,0 +1,132 @@
+package fr.techcrud.pmt_api;
+
+import fr.techcrud.pmt_api.dto.CursorPageDto;
+import fr.techcrud.pmt_api.dto.TaskRequestDto;
+import fr.techcrud.pmt_api.dto.TaskSummaryDto;
+import fr.techcrud.pmt_api.services.TaskService;
+import fr.techcrud.pmt_api.utils.TaskCursor;
+import fr.techcrud.pmt_api.utils.Uuids;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Curseur de la liste des tâches : encodage, et pagination par clé (due_date, id) à travers la frontière
+ * entre tâches avec échéance et tâches sans échéance (requêtes keyset de TaskRepository sur H2).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskCursorTests {
+
+    private static final LocalDate DUE = LocalDate.of(2026, 3, 1);
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID projectId;
+    private UUID assigneeId;
+    private List<TaskSummaryDto> expected;
+
+    @BeforeEach
+    void seedProject() {
+        assigneeId = Uuids.timeOrdered();
+        projectId = Uuids.timeOrdered();
+        jdbcTemplate.update("INSERT INTO user (id, email, first_name, last_name, password, role) "
+                + "VALUES (?, ?, 'Ada', 'Lovelace', '{noop}unused', 'USER')", Uuids.toBytes(assigneeId),
+                assigneeId + "@example.test");
+        jdbcTemplate.update("INSERT INTO project (id, name, description, author_id, created_at) "
+                + "VALUES (?, 'Cursor', 'Cursor paging', ?, ?)", Uuids.toBytes(projectId), Uuids.toBytes(assigneeId),
+                LocalDateTime.now());
+        // Cinq tâches datées, dont deux à la même échéance (départagées par id), et quatre sans échéance, mêlées
+        LocalDate[] dueDates = { DUE.plusDays(2), DUE, null, DUE.plusDays(1), null, DUE, null, DUE.plusDays(3), null };
+        for (int i = 0; i < dueDates.length; i++) {
+            create("Task " + i, dueDates[i]);
+        }
+        expected = new ArrayList<>(taskService.findByProject(projectId, null, null, null, null, 100).getItems());
+        expected.sort(Comparator.comparing(TaskSummaryDto::getDueDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(TaskSummaryDto::getId));
+    }
+
+    @Test
+    void roundTripKeepsDueDateAndId() {
+        TaskCursor cursor = new TaskCursor(DUE, Uuids.timeOrdered());
+
+        assertEquals(cursor, TaskCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void roundTripKeepsMissingDueDate() {
+        TaskCursor cursor = new TaskCursor(null, Uuids.timeOrdered());
+
+        assertEquals(cursor, TaskCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void foreignCursorIsRejected() {
+        assertNull(TaskCursor.decode("not a cursor"));
+        assertNull(TaskCursor.decode(TaskCursor.class.getSimpleName()));
+    }
+
+    @Test
+    void pagesCrossIntoUndatedTasks() {
+        // Taille 2 : la troisième page mêle la dernière tâche datée et la première sans échéance,
+        // la suivante part d'un curseur sans échéance
+        assertEquals(ids(expected), ids(readAll(2)));
+    }
+
+    @Test
+    void pageEndingOnLastDatedTaskContinuesWithUndatedTasks() {
+        // Taille 5 : la première page se termine exactement sur la dernière tâche datée
+        CursorPageDto<TaskSummaryDto> first = taskService.findByProject(projectId, null, null, null, null, 5);
+        assertEquals(DUE.plusDays(3), TaskCursor.decode(first.getNextCursor()).dueDate());
+
+        assertEquals(ids(expected), ids(readAll(5)));
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        CursorPageDto<TaskSummaryDto> page = taskService.findByProject(projectId, null, null, null, null,
+                expected.size());
+
+        assertEquals(expected.size(), page.getSize());
+        assertNull(page.getNextCursor());
+    }
+
+    private List<TaskSummaryDto> readAll(int size) {
+        List<TaskSummaryDto> all = new ArrayList<>();
+        TaskCursor cursor = null;
+        do {
+            CursorPageDto<TaskSummaryDto> page = taskService.findByProject(projectId, null, null, null, cursor, size);
+            all.addAll(page.getItems());
+            cursor = page.getNextCursor() == null ? null : TaskCursor.decode(page.getNextCursor());
+        } while (cursor != null);
+        return all;
+    }
+
+    private void create(String name, LocalDate dueDate) {
+        TaskRequestDto task = new TaskRequestDto();
+        task.setName(name);
+        task.setAssigneeId(assigneeId);
+        task.setDueDate(dueDate);
+        taskService.create(projectId, task);
+    }
+
+    private static List<UUID> ids(List<TaskSummaryDto> tasks) {
+        return tasks.stream().map(TaskSummaryDto::getId).toList();
+    }
+}
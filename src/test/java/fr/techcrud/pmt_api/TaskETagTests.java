@@ -0,0 +1,146 @@
+package fr.techcrud.pmt_api;
+
+import com.jayway.jsonpath.JsonPath;
+import fr.techcrud.pmt_api.dto.TaskRequestDto;
+import fr.techcrud.pmt_api.services.TaskService;
+import fr.techcrud.pmt_api.utils.ETags;
+import fr.techcrud.pmt_api.utils.JwtUtil;
+import fr.techcrud.pmt_api.utils.Uuids;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Requêtes conditionnelles sur une tâche : ETag et 304 en lecture, If-Match en écriture (412 si l'ETag
+ * est périmé), 409 pour une écriture concurrente sans précondition.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskETagTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @MockitoSpyBean
+    private TaskService taskService;
+
+    private String bearer;
+    private UUID taskId;
+
+    @BeforeEach
+    void seedTask() throws Exception {
+        UUID author = Uuids.timeOrdered();
+        jdbcTemplate.update("INSERT INTO user (id, email, first_name, last_name, password, role) "
+                + "VALUES (?, ?, 'Ada', 'Lovelace', '{noop}unused', 'USER')", Uuids.toBytes(author),
+                author + "@example.test");
+        UUID projectId = Uuids.timeOrdered();
+        jdbcTemplate.update("INSERT INTO project (id, name, description, author_id, created_at) "
+                + "VALUES (?, 'ETags', 'Conditional requests', ?, ?)", Uuids.toBytes(projectId),
+                Uuids.toBytes(author), LocalDateTime.now());
+        // L'auteur du projet en est administrateur : lecture et écriture autorisées
+        bearer = "Bearer " + jwtUtil.generateToken(author, author + "@example.test", "USER");
+
+        String body = "{\"name\":\"Versioned task\",\"assigneeId\":\"" + author + "\"}";
+        MvcResult created = mockMvc.perform(post("/api/v1/projects/" + projectId + "/tasks")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andReturn();
+        taskId = UUID.fromString(JsonPath.read(created.getResponse().getContentAsString(), "$.id"));
+    }
+
+    @Test
+    void readReturnsETagAndNotModifiedForCurrentVersion() throws Exception {
+        String etag = etag();
+
+        mockMvc.perform(get("/api/v1/tasks/" + taskId).header(HttpHeaders.AUTHORIZATION, bearer)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    @Test
+    void matchingIfMatchUpdatesAndBumpsVersion() throws Exception {
+        String etag = etag();
+
+        String next = mockMvc.perform(rename("Renamed").header(HttpHeaders.IF_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Renamed"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertNotEquals(etag, next);
+        assertEquals(etag(), next);
+        assertEquals(version(etag) + 1, version(next));
+        // L'ancien ETag ne donne plus de 304
+        mockMvc.perform(get("/api/v1/tasks/" + taskId).header(HttpHeaders.AUTHORIZATION, bearer)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void staleIfMatchIsPreconditionFailed() throws Exception {
+        String stale = etag();
+        mockMvc.perform(rename("First")).andExpect(status().isOk());
+
+        mockMvc.perform(rename("Second").header(HttpHeaders.IF_MATCH, stale))
+                .andExpect(status().isPreconditionFailed());
+        // ETag d'une autre ressource : la précondition échoue aussi
+        mockMvc.perform(rename("Second").header(HttpHeaders.IF_MATCH, ETags.of(Uuids.timeOrdered(), 0L)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void concurrentUpdateWithoutIfMatchIsConflict() throws Exception {
+        // Écriture concurrente détectée au flush, sans précondition du client
+        doThrow(new ObjectOptimisticLockingFailureException("Task", taskId))
+                .when(taskService).update(eq(taskId), any(TaskRequestDto.class), isNull());
+
+        mockMvc.perform(rename("Lost update")).andExpect(status().isConflict());
+    }
+
+    private MockHttpServletRequestBuilder rename(String name) {
+        return put("/api/v1/tasks/" + taskId).header(HttpHeaders.AUTHORIZATION, bearer)
+                .contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"" + name + "\"}");
+    }
+
+    private String etag() throws Exception {
+        return mockMvc.perform(get("/api/v1/tasks/" + taskId).header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private static long version(String etag) {
+        return Long.parseLong(etag.substring(etag.lastIndexOf('.') + 1, etag.length() - 1));
+    }
+}
@@ -0,0 +1,180 @@
+package fr.techcrud.pmt_api;
+
+import fr.techcrud.pmt_api.dto.TaskHistoryEvent;
+import fr.techcrud.pmt_api.services.TaskEventStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Flux SSE des changements de tâches, avec des émetteurs qui enregistrent les envois au lieu d'écrire
+ * sur une connexion : heartbeat, déconnexion d'un abonné dont la file déborde, et fin du thread d'envoi
+ * quand la connexion se termine ou expire.
+ */
+class TaskEventStreamTests {
+
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+
+    // File de 2 éléments : quelques événements suffisent à la faire déborder
+    private final TaskEventStream stream = new TaskEventStream(2, 16, 1_000) {
+        @Override
+        protected SseEmitter newEmitter(long timeoutMs) {
+            RecordingEmitter emitter = new RecordingEmitter(timeoutMs);
+            emitters.add(emitter);
+            return emitter;
+        }
+    };
+
+    @Test
+    void heartbeatIsSentToEverySubscriber() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        RecordingEmitter first = subscribe(projectId);
+        RecordingEmitter second = subscribe(UUID.randomUUID());
+
+        stream.heartbeat();
+
+        assertTrue(first.next().contains("heartbeat"));
+        assertTrue(second.next().contains("heartbeat"));
+
+        stream.publish(List.of(event(projectId)));
+        assertTrue(first.next().contains("task-change"));
+        // Les autres projets ne reçoivent pas l'événement
+        assertNull(second.sent.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void overflowingSubscriberIsDropped() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        RecordingEmitter slow = subscribe(projectId);
+        RecordingEmitter fast = subscribe(projectId);
+        slow.block();
+
+        // Le thread d'envoi du client lent est bloqué sur le premier événement
+        stream.publish(List.of(event(projectId)));
+        assertTrue(slow.entered.await(5, TimeUnit.SECONDS));
+        assertTrue(fast.next().contains("task-change"));
+        Thread sender = slow.senderThread;
+
+        // Deux événements remplissent sa file, le suivant la fait déborder ; l'abonné rapide suit
+        for (int i = 0; i < 3; i++) {
+            stream.publish(List.of(event(projectId)));
+            assertTrue(fast.next().contains("task-change"));
+        }
+
+        assertEquals(1, stream.getDroppedSubscribers());
+        assertEquals(1, stream.getSubscriberCount());
+        assertTrue(slow.completed);
+
+        slow.release();
+        sender.join(5_000);
+        assertFalse(sender.isAlive());
+    }
+
+    @Test
+    void senderThreadEndsOnCompletionAndTimeout() throws Exception {
+        RecordingEmitter completed = subscribe(UUID.randomUUID());
+        RecordingEmitter timedOut = subscribe(UUID.randomUUID());
+        stream.heartbeat();
+        completed.next();
+        timedOut.next();
+
+        // Callbacks tels que les déclenche le conteneur à la fin de la requête asynchrone
+        completed.onCompletion.run();
+        timedOut.onTimeout.run();
+
+        assertEquals(0, stream.getSubscriberCount());
+        completed.senderThread.join(5_000);
+        timedOut.senderThread.join(5_000);
+        assertFalse(completed.senderThread.isAlive());
+        assertFalse(timedOut.senderThread.isAlive());
+        assertEquals(0, stream.getDroppedSubscribers());
+    }
+
+    private RecordingEmitter subscribe(UUID projectId) {
+        assertNotNull(stream.subscribe(projectId));
+        return emitters.get(emitters.size() - 1);
+    }
+
+    private static TaskHistoryEvent event(UUID projectId) {
+        return TaskHistoryEvent.of(UUID.randomUUID(), projectId, UUID.randomUUID(), "STATUS", "TODO", "DONE");
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private volatile CountDownLatch gate;
+        private volatile Thread senderThread;
+        private volatile boolean completed;
+        private Runnable onCompletion;
+        private Runnable onTimeout;
+
+        RecordingEmitter(long timeoutMs) {
+            super(timeoutMs);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            senderThread = Thread.currentThread();
+            entered.countDown();
+            CountDownLatch current = gate;
+            if (current != null) {
+                try {
+                    current.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            StringBuilder frame = new StringBuilder();
+            for (DataWithMediaType part : builder.build()) {
+                frame.append(part.getData() instanceof String text ? text : "<data>");
+            }
+            sent.add(frame.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            onCompletion = callback;
+        }
+
+        @Override
+        public void onTimeout(Runnable callback) {
+            onTimeout = callback;
+        }
+
+        void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        String next() throws InterruptedException {
+            String frame = sent.poll(5, TimeUnit.SECONDS);
+            assertNotNull(frame, "nothing sent");
+            return frame;
+        }
+    }
+}
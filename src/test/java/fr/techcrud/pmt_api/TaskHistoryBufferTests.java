@@ -0,0 +1,71 @@
+package fr.techcrud.pmt_api;
+
+import fr.techcrud.pmt_api.dto.TaskHistoryEvent;
+import fr.techcrud.pmt_api.repositories.TaskHistoryJdbcRepository;
+import fr.techcrud.pmt_api.services.TaskEventStream;
+import fr.techcrud.pmt_api.services.TaskHistoryBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * L'arrêt du buffer écrit tout ce qui a été soumis, y compris le lot que le flusher est en train de
+ * constituer, et sans interruption qui ferait échouer l'acquisition de connexion.
+ */
+class TaskHistoryBufferTests {
+
+    @Test
+    void stopWritesThePartialBatchOfTheFlusher() throws InterruptedException {
+        RecordingRepository repository = new RecordingRepository();
+        // Lot jamais plein et fenêtre longue : au moment de stop(), les événements sont dans le lot du flusher
+        TaskHistoryBuffer buffer = new TaskHistoryBuffer(repository, new TaskEventStream(16, 16, 1_000),
+                100, 1_000, 500);
+        buffer.start();
+
+        List<TaskHistoryEvent> events = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            events.add(TaskHistoryEvent.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                    "STATUS", "TODO", "DONE"));
+        }
+        buffer.submit(events);
+        Thread.sleep(50);
+        buffer.stop();
+
+        assertEquals(10, repository.written.size());
+        assertEquals(10, buffer.getWrittenCount());
+        assertEquals(0, buffer.getDroppedCount());
+    }
+
+    // Se comporte comme un pool de connexions : un thread interrompu n'obtient pas de connexion
+    private static final class RecordingRepository extends TaskHistoryJdbcRepository {
+
+        private final List<TaskHistoryEvent> written = Collections.synchronizedList(new ArrayList<>());
+
+        RecordingRepository() {
+            super(null);
+        }
+
+        @Override
+        public void insertBatch(List<TaskHistoryEvent> events) {
+            failIfInterrupted();
+            written.addAll(events);
+        }
+
+        @Override
+        public void insert(TaskHistoryEvent event) {
+            failIfInterrupted();
+            written.add(event);
+        }
+
+        private static void failIfInterrupted() {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("Interrupted during connection acquisition");
+            }
+        }
+    }
+}
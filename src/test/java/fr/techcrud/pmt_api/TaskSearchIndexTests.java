@@ -0,0 +1,133 @@
+package fr.techcrud.pmt_api;
+
+import fr.techcrud.pmt_api.dto.TaskRequestDto;
+import fr.techcrud.pmt_api.dto.TaskSearchHitDto;
+import fr.techcrud.pmt_api.services.TaskSearchIndex;
+import fr.techcrud.pmt_api.services.TaskService;
+import fr.techcrud.pmt_api.utils.Uuids;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Index de recherche : classement BM25 comparable entre projets, mise à jour au commit des modifications
+ * et suppressions, nombre de tâches indexées après reconstruction.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskSearchIndexTests {
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID assignee;
+    private UUID small;
+    private UUID large;
+
+    @BeforeEach
+    void seedProjects() {
+        assignee = Uuids.timeOrdered();
+        jdbcTemplate.update("INSERT INTO user (id, email, first_name, last_name, password, role) "
+                + "VALUES (?, ?, 'Ada', 'Lovelace', '{noop}unused', 'USER')", Uuids.toBytes(assignee),
+                assignee + "@example.test");
+        small = project("Small");
+        large = project("Large");
+    }
+
+    @Test
+    void scoresAreComparableAcrossProjects() {
+        // "kafka" est rare dans le petit projet et fréquent dans le gros : avec des statistiques par projet,
+        // la même tâche obtiendrait un meilleur score dans le petit
+        UUID inSmall = create(small, "Upgrade kafka", "Rolling restart of the brokers");
+        create(small, "Write release notes", "Changelog for the next version");
+        UUID inLarge = create(large, "Upgrade kafka", "Rolling restart of the brokers");
+        for (int i = 0; i < 4; i++) {
+            create(large, "Tune kafka consumer " + i, "Lag on the kafka topic");
+        }
+        UUID inDescription = create(small, "Rotate certificates", "Brokers kafka and zookeeper");
+
+        List<TaskSearchHitDto> hits = taskSearchIndex.search(List.of(small, large), "kafka", 10);
+
+        assertEquals(score(hits, inSmall), score(hits, inLarge), 1e-9);
+        assertTrue(score(hits, inLarge) > score(hits, inDescription), "a name match outranks a description match");
+        assertEquals(7, hits.size());
+    }
+
+    @Test
+    void updatesAndDeletesAreReindexed() {
+        UUID id = create(small, "Migrate database", "Move to the new cluster");
+        assertEquals(List.of(id), ids(taskSearchIndex.search(List.of(small), "database", 10)));
+
+        TaskRequestDto rename = new TaskRequestDto();
+        rename.setName("Migrate storage");
+        taskService.update(id, rename, null);
+
+        assertEquals(List.of(), ids(taskSearchIndex.search(List.of(small), "database", 10)));
+        assertEquals(List.of(id), ids(taskSearchIndex.search(List.of(small), "storage", 10)));
+        // La description n'a pas changé : toujours indexée
+        assertEquals(List.of(id), ids(taskSearchIndex.search(List.of(small), "cluster", 10)));
+
+        long before = taskSearchIndex.taskCount();
+        assertTrue(taskService.delete(id));
+
+        assertEquals(List.of(), ids(taskSearchIndex.search(List.of(small), "storage", 10)));
+        assertEquals(before - 1, taskSearchIndex.taskCount());
+    }
+
+    @Test
+    void taskCountMatchesTableAfterRebuild() {
+        create(small, "Index me", null);
+        create(large, "Index me too", "With a description");
+        // Écrit sans passer par Hibernate : absent de l'index jusqu'à la reconstruction
+        jdbcTemplate.update("INSERT INTO task (id, project_id, assignee_id, name, status, priority, version, "
+                + "created_at) VALUES (?, ?, ?, 'Imported task', 'TODO', 'LOW', 0, ?)",
+                Uuids.toBytes(Uuids.timeOrdered()), Uuids.toBytes(large), Uuids.toBytes(assignee), LocalDateTime.now());
+        assertEquals(List.of(), ids(taskSearchIndex.search(List.of(large), "imported", 10)));
+
+        int rebuilt = taskSearchIndex.rebuild();
+
+        long tasks = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task", Long.class);
+        assertEquals(tasks, rebuilt);
+        assertEquals(tasks, taskSearchIndex.taskCount());
+        assertEquals(tasks, ((Number) taskSearchIndex.stats().get("tasks")).longValue());
+        assertEquals(1, taskSearchIndex.search(List.of(large), "imported", 10).size());
+    }
+
+    private UUID create(UUID projectId, String name, String description) {
+        TaskRequestDto task = new TaskRequestDto();
+        task.setName(name);
+        task.setDescription(description);
+        task.setAssigneeId(assignee);
+        return taskService.create(projectId, task).getId();
+    }
+
+    private UUID project(String name) {
+        UUID id = Uuids.timeOrdered();
+        jdbcTemplate.update("INSERT INTO project (id, name, description, author_id, created_at) "
+                + "VALUES (?, ?, 'Search', ?, ?)", Uuids.toBytes(id), name, Uuids.toBytes(assignee),
+                LocalDateTime.now());
+        return id;
+    }
+
+    private static double score(List<TaskSearchHitDto> hits, UUID taskId) {
+        return hits.stream().filter(hit -> hit.getId().equals(taskId)).findFirst().orElseThrow().getScore();
+    }
+
+    private static List<UUID> ids(List<TaskSearchHitDto> hits) {
+        return hits.stream().map(TaskSearchHitDto::getId).toList();
+    }
+}
@@ -0,0 +1,71 @@
+package fr.techcrud.pmt_api;
+
+import fr.techcrud.pmt_api.models.User;
+import fr.techcrud.pmt_api.services.userService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Lectures d'utilisateurs servies par la région "users" du cache de second niveau, visibles dans
+ * pmt.cache.gets{cache=users}, et toujours à jour après une écriture.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserCacheTests {
+
+    @Autowired
+    private userService userService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void repeatedReadsAreCacheHits() {
+        User created = userService.create(user());
+        userService.findById(created.getId());
+        double hits = hits();
+
+        userService.findById(created.getId());
+        userService.findById(created.getId());
+
+        assertTrue(hits() >= hits + 2, "second-level cache hits: " + hits + " -> " + hits());
+    }
+
+    @Test
+    void writesAreVisibleToNextRead() {
+        User created = userService.create(user());
+        userService.findById(created.getId());
+        userService.findByEmail(created.getEmail());
+
+        User change = new User();
+        change.setFirstName("Grace");
+        userService.update(created.getId(), change);
+        assertEquals("Grace", userService.findById(created.getId()).getFirstName());
+
+        User profile = user();
+        profile.setFirstName("Hedy");
+        userService.updateByEmail(created.getEmail(), profile);
+        assertEquals("Hedy", userService.findByEmail(created.getEmail()).getFirstName());
+    }
+
+    private double hits() {
+        return meterRegistry.get("pmt.cache.gets").tag("cache", "users").tag("result", "hit")
+                .functionCounter().count();
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setEmail(UUID.randomUUID() + "@example.test");
+        user.setFirstName("Ada");
+        user.setLastName("Lovelace");
+        user.setPassword("password");
+        return user;
+    }
+}
@@ -0,0 +1,60 @@
+package fr.techcrud.pmt_api;
+
+import fr.techcrud.pmt_api.models.User;
+import fr.techcrud.pmt_api.services.userService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Le rôle applicatif ne se choisit ni à l'inscription ni en modifiant son propre profil :
+ * ADMIN ouvre tous les projets et les routes d'administration.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserRoleTests {
+
+    @Autowired
+    private userService userService;
+
+    @Test
+    void registrationIgnoresRequestedRole() {
+        User created = userService.create(user("ADMIN"));
+
+        assertEquals("USER", userService.findById(created.getId()).getRole());
+    }
+
+    @Test
+    void selfUpdateKeepsRole() {
+        User created = userService.create(user(null));
+
+        User updated = userService.updateProfile(created.getId(), user("ADMIN"), null);
+
+        assertEquals("USER", updated.getRole());
+        assertEquals("USER", userService.findById(created.getId()).getRole());
+    }
+
+    @Test
+    void administrativeUpdateChangesRole() {
+        User created = userService.create(user(null));
+
+        User updated = userService.update(created.getId(), user("ADMIN"));
+
+        assertEquals("ADMIN", updated.getRole());
+    }
+
+    private static User user(String role) {
+        User user = new User();
+        user.setEmail(UUID.randomUUID() + "@example.test");
+        user.setFirstName("Ada");
+        user.setLastName("Lovelace");
+        user.setPassword("password");
+        user.setRole(role);
+        return user;
+    }
+}
@@ -0,0 +1,72 @@
+package fr.techcrud.pmt_api.load;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Tir HTTP en boucle fermée : {@code concurrency} clients enchaînent les requêtes jusqu'à {@code total}.
+ * Préchauffage (JIT, caches, pool de connexions) puis tir mesuré, résultat ajouté au {@link LoadReport}.
+ */
+public class LoadDriver {
+
+    private final HttpClient client;
+    private final int concurrency;
+    private final LoadReport report;
+
+    public LoadDriver(int concurrency, LoadReport report) {
+        this.concurrency = concurrency;
+        this.report = report;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public LoadReport.ScenarioResult run(String scenario, int total, int expectedStatus, int itemsPerRequest,
+            IntFunction<HttpRequest> requestFactory) throws InterruptedException {
+        int warmup = Math.max(total / 10, concurrency);
+        fire(warmup, expectedStatus, requestFactory, new long[warmup]);
+        long[] latencies = new long[total];
+        long start = System.nanoTime();
+        int errors = fire(total, expectedStatus, requestFactory, latencies);
+        return report.add(scenario, concurrency, itemsPerRequest, latencies, errors, System.nanoTime() - start);
+    }
+
+    private int fire(int total, int expectedStatus, IntFunction<HttpRequest> requestFactory, long[] latencies)
+            throws InterruptedException {
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < concurrency; w++) {
+                workers.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < total; i = next.getAndIncrement()) {
+                        HttpRequest request = requestFactory.apply(i);
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != expectedStatus) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        latencies[i] = System.nanoTime() - start;
+                    }
+                });
+            }
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        return errors.get();
+    }
+}
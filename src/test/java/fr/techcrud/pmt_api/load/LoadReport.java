@@ -0,0 +1,76 @@
+package fr.techcrud.pmt_api.load;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Résultats des scénarios : débit et percentiles de latence, affichés en tableau et écrits en JSON
+ * dans {@code target/load-report.json} pour comparer deux commits.
+ * <p>
+ * {@code itemsPerSecond} compte les éléments traités (tâches d'un lot, par exemple) : c'est lui qui compare
+ * un endpoint en lot et N appels unitaires.
+ */
+public class LoadReport {
+
+    private final List<ScenarioResult> results = new ArrayList<>();
+
+    @JsonPropertyOrder({ "scenario", "requests", "errors", "concurrency", "throughputPerSecond",
+            "itemsPerSecond", "p50Millis", "p95Millis", "p99Millis", "maxMillis" })
+    public record ScenarioResult(String scenario, int requests, int errors, int concurrency,
+            double throughputPerSecond, double itemsPerSecond, double p50Millis, double p95Millis, double p99Millis,
+            double maxMillis) {
+    }
+
+    public ScenarioResult add(String scenario, int concurrency, long[] latenciesNanos, int errors, long elapsedNanos) {
+        return add(scenario, concurrency, 1, latenciesNanos, errors, elapsedNanos);
+    }
+
+    public ScenarioResult add(String scenario, int concurrency, int itemsPerRequest, long[] latenciesNanos, int errors,
+            long elapsedNanos) {
+        long[] sorted = latenciesNanos.clone();
+        Arrays.sort(sorted);
+        double throughput = sorted.length / (elapsedNanos / 1_000_000_000.0);
+        ScenarioResult result = new ScenarioResult(scenario, sorted.length, errors, concurrency, throughput,
+                throughput * itemsPerRequest,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+        results.add(result);
+        return result;
+    }
+
+    public List<ScenarioResult> results() {
+        return results;
+    }
+
+    public String table() {
+        StringBuilder out = new StringBuilder(String.format("%n%-16s %9s %7s %6s %10s %10s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "conc.", "req/s", "items/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (ScenarioResult r : results) {
+            out.append(String.format("%-16s %9d %7d %6d %10.1f %10.1f %9.2f %9.2f %9.2f %9.2f%n", r.scenario(),
+                    r.requests(), r.errors(), r.concurrency(), r.throughputPerSecond(), r.itemsPerSecond(),
+                    r.p50Millis(), r.p95Millis(), r.p99Millis(), r.maxMillis()));
+        }
+        return out.toString();
+    }
+
+    public void write(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, JsonMapper.builder().build().writerWithDefaultPrettyPrinter().writeValueAsBytes(results));
+    }
+
+    // Méthode "nearest rank" : pas d'interpolation, la valeur rapportée a réellement été observée
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / 1_000_000.0;
+    }
+}
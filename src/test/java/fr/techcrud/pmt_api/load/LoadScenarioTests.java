@@ -0,0 +1,182 @@
+package fr.techcrud.pmt_api.load;
+
+import fr.techcrud.pmt_api.services.TaskSearchIndex;
+import fr.techcrud.pmt_api.utils.JwtUtil;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tirs de charge HTTP sur l'application complète (Tomcat, sécurité, JPA) et une base H2 peuplée par
+ * {@link SyntheticDataGenerator}. Exclus du build courant, lancés par {@code mvn -Pload test}.
+ * <p>
+ * Paramètres : {@code -Dload.concurrency}, {@code -Dload.requests}, {@code -Dload.login-requests},
+ * {@code -Dload.bulk-size} et {@code -Dload.bulk-requests} (création en lot contre N créations unitaires),
+ * plus les tailles du jeu de données ({@code -Dload.users}, {@code -Dload.projects}, ...).
+ * La comparaison threads virtuels / threads plateforme est dans {@link VirtualThreadLoadTests}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class LoadScenarioTests {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadScenarioTests.class);
+    private static final String PASSWORD = "load-test-password";
+
+    private final int concurrency = Integer.getInteger("load.concurrency", 32);
+    private final int requests = Integer.getInteger("load.requests", 5_000);
+    // Le login est borné par BCrypt : moins de requêtes pour garder un temps de tir raisonnable
+    private final int loginRequests = Integer.getInteger("load.login-requests", 200);
+    // Écritures : bulkRequests lots de bulkSize créations, comparés au même nombre de tâches créées une à une
+    private final int bulkSize = Integer.getInteger("load.bulk-size", 50);
+    private final int bulkRequests = Integer.getInteger("load.bulk-requests", 100);
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    private final LoadReport report = new LoadReport();
+    private LoadDriver driver;
+    private List<SyntheticDataGenerator.Account> accounts;
+    private List<String> tokens;
+
+    @BeforeAll
+    void seed() {
+        SyntheticDataGenerator.Dataset dataset = new SyntheticDataGenerator(jdbcTemplate)
+                .generate(SyntheticDataGenerator.Size.fromSystemProperties(), passwordEncoder.encode(PASSWORD),
+                        concurrency * 8);
+        // Les lignes insérées en JDBC ne passent pas par les listeners Hibernate
+        taskSearchIndex.rebuild();
+        accounts = dataset.authors();
+        tokens = accounts.stream().map(a -> jwtUtil.generateToken(a.userId(), a.email(), "USER")).toList();
+        driver = new LoadDriver(concurrency, report);
+    }
+
+    @AfterAll
+    void writeReport() throws IOException {
+        log.info("Load scenarios:{}", report.table());
+        report.write(Path.of("target", "load-report.json"));
+    }
+
+    @Test
+    @Order(1)
+    void login() throws InterruptedException {
+        run("login", loginRequests, i -> {
+            SyntheticDataGenerator.Account account = accounts.get(i % accounts.size());
+            return request("/api/v1/auth/login")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"email\":\"" + account.email() + "\",\"password\":\"" + PASSWORD + "\"}"))
+                    .build();
+        });
+    }
+
+    @Test
+    @Order(2)
+    void me() throws InterruptedException {
+        run("me", requests, i -> authenticated("/api/v1/users/me", i));
+    }
+
+    @Test
+    @Order(3)
+    void userList() throws InterruptedException {
+        run("user-list", requests, i -> authenticated("/api/v1/users?size=50", i));
+    }
+
+    @Test
+    @Order(4)
+    void taskListing() throws InterruptedException {
+        run("task-listing", requests, i -> authenticated(
+                "/api/v1/projects/" + accounts.get(i % accounts.size()).projectId() + "/tasks?size=50", i));
+    }
+
+    @Test
+    @Order(5)
+    void singleCreate() throws InterruptedException {
+        run("single-create", bulkRequests * bulkSize, 201, 1, i -> authenticatedPost(
+                "/api/v1/projects/" + accounts.get(i % accounts.size()).projectId() + "/tasks", i,
+                taskJson("single", i, accounts.get(i % accounts.size()))));
+    }
+
+    @Test
+    @Order(6)
+    void bulkCreate() throws InterruptedException {
+        run("bulk-create", bulkRequests, 200, bulkSize, i -> {
+            StringBuilder body = new StringBuilder("[");
+            for (int t = 0; t < bulkSize; t++) {
+                body.append(t == 0 ? "" : ",").append("{\"op\":\"CREATE\",\"task\":")
+                        .append(taskJson("bulk", i * bulkSize + t, accounts.get(i % accounts.size()))).append('}');
+            }
+            return authenticatedPost("/api/v1/projects/" + accounts.get(i % accounts.size()).projectId()
+                    + "/tasks/bulk", i, body.append(']').toString());
+        });
+        List<LoadReport.ScenarioResult> results = report.results();
+        LoadReport.ScenarioResult single = results.get(results.size() - 2);
+        LoadReport.ScenarioResult bulk = results.get(results.size() - 1);
+        log.info(String.format("Bulk of %d vs single create: %.1f vs %.1f tasks/s (x%.1f)", bulkSize,
+                bulk.itemsPerSecond(), single.itemsPerSecond(), bulk.itemsPerSecond() / single.itemsPerSecond()));
+    }
+
+    // Assignée à l'auteur du projet, seul membre garanti
+    private static String taskJson(String prefix, int i, SyntheticDataGenerator.Account account) {
+        return "{\"name\":\"Load " + prefix + " task " + i + "\",\"priority\":\"MEDIUM\",\"assigneeId\":\""
+                + account.userId() + "\"}";
+    }
+
+    private HttpRequest authenticatedPost(String path, int i, String json) {
+        return request(path).header("Authorization", "Bearer " + tokens.get(i % tokens.size()))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest authenticated(String path, int i) {
+        return request(path).header("Authorization", "Bearer " + tokens.get(i % tokens.size())).GET().build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+    }
+
+    private void run(String scenario, int total, IntFunction<HttpRequest> requestFactory) throws InterruptedException {
+        run(scenario, total, 200, 1, requestFactory);
+    }
+
+    private void run(String scenario, int total, int expectedStatus, int itemsPerRequest,
+            IntFunction<HttpRequest> requestFactory) throws InterruptedException {
+        LoadReport.ScenarioResult result = driver.run(scenario, total, expectedStatus, itemsPerRequest, requestFactory);
+        log.info("{}", result);
+        assertEquals(0, result.errors(), scenario + ": non-" + expectedStatus + " responses");
+    }
+}
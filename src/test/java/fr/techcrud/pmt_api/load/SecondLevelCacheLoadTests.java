@@ -0,0 +1,123 @@
+package fr.techcrud.pmt_api.load;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import fr.techcrud.pmt_api.repositories.ProjectMemberRepository;
+import fr.techcrud.pmt_api.repositories.ProjectRepository;
+import fr.techcrud.pmt_api.repositories.userRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Allers-retours base évités par le cache de second niveau sur les lectures des endpoints les plus sollicités
+ * (utilisateur par id et par email, projet, membres et rôle d'un membre).
+ * <p>
+ * Chaque "requête" est une transaction en lecture seule, donc un contexte de persistance neuf, comme une
+ * requête HTTP. Le même parcours est joué en vidant le cache avant chaque requête, puis cache actif ;
+ * les requêtes SQL sont comptées par les statistiques Hibernate. Résultat dans {@code target/l2-cache-report.json}.
+ * Nombre de requêtes : {@code -Dload.l2.requests} (5000 par défaut), réparties sur au plus 500 comptes.
+ */
+@Tag("load")
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheLoadTests {
+
+    private static final Logger log = LoggerFactory.getLogger(SecondLevelCacheLoadTests.class);
+
+    // Propriété propre : load.requests est dimensionné pour les tirs HTTP, pas pour ce parcours
+    private final int requests = Integer.getInteger("load.l2.requests", 5_000);
+    // Chaque compte est relu une dizaine de fois : sinon le cache n'a que des premières lectures à servir
+    private final int accountCount = Math.max(1, Math.min(500, requests / 10));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private userRepository userRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @JsonPropertyOrder({ "mode", "requests", "statements", "statementsPerRequest", "secondLevelHits",
+            "queryCacheHits", "elapsedMillis" })
+    record ModeResult(String mode, int requests, long statements, double statementsPerRequest, long secondLevelHits,
+            long queryCacheHits, long elapsedMillis) {
+    }
+
+    @Test
+    void secondLevelCacheReducesRoundTrips() throws IOException {
+        List<SyntheticDataGenerator.Account> accounts = new SyntheticDataGenerator(jdbcTemplate)
+                .generate(new SyntheticDataGenerator.Size(5_000, 500, 5, 0, 0), "{noop}unused", accountCount)
+                .authors();
+        transactionTemplate.setReadOnly(true);
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        Statistics statistics = sessionFactory.getStatistics();
+
+        // Préchauffage : JIT et pool de connexions
+        run(sessionFactory, accounts, false, requests / 10);
+
+        statistics.clear();
+        long start = System.currentTimeMillis();
+        run(sessionFactory, accounts, false, requests);
+        ModeResult uncached = result("no-l2", statistics, System.currentTimeMillis() - start);
+
+        statistics.clear();
+        start = System.currentTimeMillis();
+        run(sessionFactory, accounts, true, requests);
+        ModeResult cached = result("l2", statistics, System.currentTimeMillis() - start);
+
+        log.info("Second-level cache, {} read requests:\n  {}\n  {}", requests, uncached, cached);
+        Path report = Path.of("target", "l2-cache-report.json");
+        Files.createDirectories(report.getParent());
+        Files.write(report, JsonMapper.builder().build().writerWithDefaultPrettyPrinter()
+                .writeValueAsBytes(List.of(uncached, cached)));
+
+        assertTrue(cached.statements() < uncached.statements() / 2,
+                "second-level cache should at least halve the statements: " + cached + " vs " + uncached);
+    }
+
+    private void run(SessionFactory sessionFactory, List<SyntheticDataGenerator.Account> accounts, boolean useCache,
+            int count) {
+        for (int i = 0; i < count; i++) {
+            SyntheticDataGenerator.Account account = accounts.get(i % accounts.size());
+            if (!useCache) {
+                // Entités et résultats de requêtes
+                sessionFactory.getCache().evictAllRegions();
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.findById(account.userId());
+                userRepository.findByEmail(account.email());
+                projectRepository.findById(account.projectId());
+                projectMemberRepository.findByProject(account.projectId());
+                projectMemberRepository.findMember(account.projectId(), account.userId());
+            });
+        }
+    }
+
+    private ModeResult result(String mode, Statistics statistics, long elapsedMillis) {
+        long statements = statistics.getPrepareStatementCount();
+        return new ModeResult(mode, requests, statements, (double) statements / requests,
+                statistics.getSecondLevelCacheHitCount(), statistics.getQueryCacheHitCount(), elapsedMillis);
+    }
+}
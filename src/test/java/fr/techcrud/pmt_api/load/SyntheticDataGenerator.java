@@ -0,0 +1,217 @@
+package fr.techcrud.pmt_api.load;
+
+import fr.techcrud.pmt_api.enums.ProjectRole;
+import fr.techcrud.pmt_api.enums.TaskPriority;
+import fr.techcrud.pmt_api.enums.TaskStatus;
+import fr.techcrud.pmt_api.repositories.ProjectTaskCounterRepository;
+import fr.techcrud.pmt_api.utils.Uuids;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Jeu de données synthétique pour les tirs de charge, inséré par lots JDBC (sans passer par Hibernate).
+ * <p>
+ * La graine est fixe : deux exécutions avec la même taille produisent les mêmes lignes.
+ * Chaque projet a pour auteur un utilisateur distinct (tant qu'il y en a) et des membres tirés au hasard ;
+ * les compteurs du tableau de bord sont calculés pendant l'insertion des tâches.
+ * Tous les comptes ont le même mot de passe, haché une seule fois.
+ */
+public class SyntheticDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+    private static final int BATCH_SIZE = 5_000;
+    private static final String[] WORDS = { "backend", "frontend", "migration", "release", "invoice", "dashboard",
+            "onboarding", "security", "export", "search" };
+    private static final ProjectRole[] MEMBER_ROLES = { ProjectRole.MEMBER, ProjectRole.MEMBER, ProjectRole.OBSERVER };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(42);
+    private final long epochMillis = LocalDateTime.of(2025, 1, 1, 0, 0)
+            .toInstant(ZoneOffset.UTC).toEpochMilli();
+    private long sequence;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record Size(int users, int projects, int membersPerProject, int tasksPerProject, int historyPerTask) {
+
+        // -Dload.users=1000000 -Dload.projects=100000 ... pour un jeu de données de production
+        public static Size fromSystemProperties() {
+            return new Size(Integer.getInteger("load.users", 20_000),
+                    Integer.getInteger("load.projects", 2_000),
+                    Integer.getInteger("load.members-per-project", 5),
+                    Integer.getInteger("load.tasks-per-project", 50),
+                    Integer.getInteger("load.history-per-task", 2));
+        }
+    }
+
+    public record Account(UUID userId, String email, UUID projectId) {
+    }
+
+    public record Dataset(Size size, List<Account> authors, long rows, long elapsedMillis) {
+    }
+
+    public static String email(int index) {
+        return "user" + index + "@load.test";
+    }
+
+    public Dataset generate(Size size, String passwordHash, int sampledAuthors) {
+        long start = System.currentTimeMillis();
+        long rows = 0;
+
+        UUID[] users = new UUID[size.users()];
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < size.users(); i++) {
+            users[i] = nextId();
+            batch.add(new Object[] { Uuids.toBytes(users[i]), email(i), "First" + i, "Last" + i, passwordHash, "USER" });
+            rows += flushIfFull("INSERT INTO user (id, email, first_name, last_name, password, role) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)", batch);
+        }
+        rows += flush("INSERT INTO user (id, email, first_name, last_name, password, role) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", batch);
+
+        UUID[] projects = new UUID[size.projects()];
+        int[] authorIndexes = new int[size.projects()];
+        List<Account> authors = new ArrayList<>();
+        for (int p = 0; p < size.projects(); p++) {
+            projects[p] = nextId();
+            authorIndexes[p] = p % size.users();
+            batch.add(new Object[] { Uuids.toBytes(projects[p]), "Project " + p, "Synthetic project " + p,
+                    Uuids.toBytes(users[authorIndexes[p]]), timestamp(p) });
+            if (authors.size() < sampledAuthors) {
+                authors.add(new Account(users[authorIndexes[p]], email(authorIndexes[p]), projects[p]));
+            }
+            rows += flushIfFull("INSERT INTO project (id, name, description, author_id, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?)", batch);
+        }
+        rows += flush("INSERT INTO project (id, name, description, author_id, created_at) VALUES (?, ?, ?, ?, ?)", batch);
+
+        String memberSql = "INSERT INTO project_member (id, project_id, user_id, role) VALUES (?, ?, ?, ?)";
+        int[][] members = new int[size.projects()][];
+        for (int p = 0; p < size.projects(); p++) {
+            members[p] = pickMembers(authorIndexes[p], size.membersPerProject(), size.users());
+            for (int member : members[p]) {
+                batch.add(new Object[] { Uuids.toBytes(nextId()), Uuids.toBytes(projects[p]),
+                        Uuids.toBytes(users[member]), MEMBER_ROLES[random.nextInt(MEMBER_ROLES.length)].name() });
+                rows += flushIfFull(memberSql, batch);
+            }
+        }
+        rows += flush(memberSql, batch);
+
+        String taskSql = "INSERT INTO task (id, project_id, assignee_id, name, description, status, priority, "
+                + "due_date, completion_date, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String historySql = "INSERT INTO task_history (id, task_id, modifier_id, change_type, old_value, new_value, "
+                + "modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        String counterSql = "INSERT INTO project_task_counter (project_id, dimension, dimension_key, task_count) "
+                + "VALUES (?, ?, ?, ?)";
+        List<Object[]> historyBatch = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> counterBatch = new ArrayList<>(BATCH_SIZE);
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        LocalDate today = LocalDate.now();
+        for (int p = 0; p < size.projects(); p++) {
+            Map<String, Long> statusCounts = new HashMap<>();
+            Map<String, Long> priorityCounts = new HashMap<>();
+            Map<String, Long> assigneeCounts = new HashMap<>();
+            for (int t = 0; t < size.tasksPerProject(); t++) {
+                UUID taskId = nextId();
+                int assigneeIndex = random.nextInt(members[p].length + 1);
+                UUID assignee = users[assigneeIndex == members[p].length ? authorIndexes[p] : members[p][assigneeIndex]];
+                TaskStatus status = statuses[random.nextInt(statuses.length)];
+                TaskPriority priority = priorities[random.nextInt(priorities.length)];
+                LocalDate dueDate = today.plusDays(random.nextInt(120) - 30);
+                batch.add(new Object[] { Uuids.toBytes(taskId), Uuids.toBytes(projects[p]), Uuids.toBytes(assignee),
+                        "Task " + t + " of project " + p, "Generated task " + t + " " + WORDS[random.nextInt(WORDS.length)],
+                        status.name(), priority.name(), Date.valueOf(dueDate),
+                        status == TaskStatus.COMPLETED ? Date.valueOf(dueDate.minusDays(1)) : null, timestamp(t) });
+                rows += flushIfFull(taskSql, batch);
+
+                statusCounts.merge(status.name(), 1L, Long::sum);
+                priorityCounts.merge(priority.name(), 1L, Long::sum);
+                if (status != TaskStatus.COMPLETED) {
+                    assigneeCounts.merge(assignee.toString(), 1L, Long::sum);
+                }
+
+                for (int h = 0; h < size.historyPerTask(); h++) {
+                    historyBatch.add(new Object[] { Uuids.toBytes(nextId()), Uuids.toBytes(taskId),
+                            Uuids.toBytes(assignee), "STATUS", TaskStatus.TODO.name(), status.name(), timestamp(h) });
+                    rows += flushIfFull(historySql, historyBatch);
+                }
+            }
+            addCounters(counterBatch, projects[p], ProjectTaskCounterRepository.STATUS, statusCounts);
+            addCounters(counterBatch, projects[p], ProjectTaskCounterRepository.PRIORITY, priorityCounts);
+            addCounters(counterBatch, projects[p], ProjectTaskCounterRepository.ASSIGNEE, assigneeCounts);
+            rows += flushIfFull(counterSql, counterBatch);
+        }
+        rows += flush(taskSql, batch);
+        rows += flush(historySql, historyBatch);
+        rows += flush(counterSql, counterBatch);
+
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("Synthetic dataset {}: {} rows in {} ms", size, rows, elapsed);
+        return new Dataset(size, authors, rows, elapsed);
+    }
+
+    private int[] pickMembers(int author, int count, int userCount) {
+        int n = Math.min(count, userCount - 1);
+        int[] picked = new int[n];
+        int filled = 0;
+        while (filled < n) {
+            int candidate = random.nextInt(userCount);
+            boolean taken = candidate == author;
+            for (int i = 0; i < filled && !taken; i++) {
+                taken = picked[i] == candidate;
+            }
+            if (!taken) {
+                picked[filled++] = candidate;
+            }
+        }
+        return picked;
+    }
+
+    private void addCounters(List<Object[]> batch, UUID projectId, String dimension, Map<String, Long> counts) {
+        for (Map.Entry<String, Long> count : counts.entrySet()) {
+            batch.add(new Object[] { Uuids.toBytes(projectId), dimension, count.getKey(), count.getValue() });
+        }
+    }
+
+    // UUID v7 à partir de la graine : ordonnés comme ceux d'Hibernate, mais reproductibles
+    private UUID nextId() {
+        long millis = epochMillis + sequence++;
+        long msb = (millis << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    private Timestamp timestamp(int offsetMinutes) {
+        return new Timestamp(epochMillis + offsetMinutes * 60_000L);
+    }
+
+    private int flushIfFull(String sql, List<Object[]> batch) {
+        return batch.size() >= BATCH_SIZE ? flush(sql, batch) : 0;
+    }
+
+    private int flush(String sql, List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(sql, batch);
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+}
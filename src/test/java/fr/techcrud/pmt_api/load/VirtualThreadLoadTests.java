@@ -0,0 +1,84 @@
+package fr.techcrud.pmt_api.load;
+
+import fr.techcrud.pmt_api.PmtApiApplication;
+import fr.techcrud.pmt_api.utils.JwtUtil;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Même tir sur l'application démarrée deux fois, threads plateforme puis threads virtuels
+ * (spring.threads.virtual.enabled), chacune avec sa base H2 peuplée par {@link SyntheticDataGenerator}.
+ * <p>
+ * Le scénario est la liste des tâches d'un projet, bornée par la base ; {@code -Dload.vt.concurrency}
+ * (256 par défaut) dépasse les 200 threads Tomcat du mode plateforme. Les deux modes ont le même pool Hikari
+ * (celui du mode virtuel, {@code virtual-threads.db.maximum-pool-size}) : seul le modèle de threads change.
+ * Un premier démarrage non mesuré chauffe le JIT, partagé par les deux contextes de la même JVM, pour ne pas
+ * avantager le mode lancé en second. Débit et p99 des deux modes dans {@code target/virtual-threads-report.json}.
+ */
+@Tag("load")
+class VirtualThreadLoadTests {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadLoadTests.class);
+
+    private final int concurrency = Integer.getInteger("load.vt.concurrency", 256);
+    private final int requests = Integer.getInteger("load.requests", 5_000);
+
+    private final LoadReport report = new LoadReport();
+
+    @Test
+    void compareVirtualAndPlatformThreads() throws Exception {
+        runAgainst(false, new LoadReport());
+        LoadReport.ScenarioResult platform = runAgainst(false, report);
+        LoadReport.ScenarioResult virtual = runAgainst(true, report);
+
+        log.info("Virtual vs platform threads:{}", report.table());
+        log.info(String.format("Virtual / platform threads: throughput x%.2f, p99 %.1f ms vs %.1f ms",
+                virtual.throughputPerSecond() / platform.throughputPerSecond(), virtual.p99Millis(),
+                platform.p99Millis()));
+        report.write(Path.of("target", "virtual-threads-report.json"));
+        assertEquals(0, platform.errors(), "platform threads: non-200 responses");
+        assertEquals(0, virtual.errors(), "virtual threads: non-200 responses");
+    }
+
+    // Arguments de ligne de commande : ils priment sur application.properties, contrairement aux propriétés par défaut
+    private LoadReport.ScenarioResult runAgainst(boolean virtualThreads, LoadReport target)
+            throws InterruptedException, IOException {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PmtApiApplication.class)
+                .profiles("test")
+                .run("--server.port=0", "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.hikari.maximum-pool-size=${virtual-threads.db.maximum-pool-size}")) {
+            List<SyntheticDataGenerator.Account> accounts = new SyntheticDataGenerator(
+                    context.getBean(JdbcTemplate.class))
+                    .generate(SyntheticDataGenerator.Size.fromSystemProperties(), "{noop}unused", concurrency * 4)
+                    .authors();
+            JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+            List<String> tokens = accounts.stream()
+                    .map(a -> jwtUtil.generateToken(a.userId(), a.email(), "USER"))
+                    .toList();
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+            LoadReport.ScenarioResult result = new LoadDriver(concurrency, target).run(
+                    virtualThreads ? "virtual-threads" : "platform-threads", requests, 200, 1,
+                    i -> HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/projects/"
+                                    + accounts.get(i % accounts.size()).projectId() + "/tasks?size=50"))
+                            .header("Authorization", "Bearer " + tokens.get(i % tokens.size()))
+                            .GET()
+                            .build());
+            log.info("{}", result);
+            return result;
+        }
+    }
+}
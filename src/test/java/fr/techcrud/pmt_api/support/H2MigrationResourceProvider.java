@@ -0,0 +1,100 @@
+package fr.techcrud.pmt_api.support;
+
+import org.flywaydb.core.api.ResourceProvider;
+import org.flywaydb.core.api.resource.LoadableResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Scripts Flyway pour la base H2 de test : les migrations de {@code db/migrations}, sauf celles qui ont un
+ * équivalent du même nom dans {@code db/h2} (SQL propre à MySQL : UUID_TO_BIN, partitions, MODIFY multiples).
+ * Les autres migrations s'exécutent telles quelles, en mode de compatibilité MySQL.
+ */
+class H2MigrationResourceProvider implements ResourceProvider {
+
+    private final Map<String, LoadableResource> resources = new TreeMap<>();
+
+    H2MigrationResourceProvider(String migrationsLocation, String overridesLocation) {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        try {
+            for (Resource resource : resolver.getResources(migrationsLocation + "/*.sql")) {
+                resources.put(resource.getFilename(), new SpringLoadableResource(resource));
+            }
+            for (Resource resource : resolver.getResources(overridesLocation + "/*.sql")) {
+                if (!resources.containsKey(resource.getFilename())) {
+                    throw new IllegalStateException("H2 override without MySQL migration: " + resource.getFilename());
+                }
+                resources.put(resource.getFilename(), new SpringLoadableResource(resource));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public LoadableResource getResource(String name) {
+        return resources.get(name);
+    }
+
+    @Override
+    public Collection<LoadableResource> getResources(String prefix, String[] suffixes) {
+        List<LoadableResource> matching = new ArrayList<>();
+        for (Map.Entry<String, LoadableResource> entry : resources.entrySet()) {
+            String name = entry.getKey();
+            if (name.startsWith(prefix) && Arrays.stream(suffixes).anyMatch(name::endsWith)) {
+                matching.add(entry.getValue());
+            }
+        }
+        return matching;
+    }
+
+    private static final class SpringLoadableResource extends LoadableResource {
+
+        private final Resource resource;
+
+        private SpringLoadableResource(Resource resource) {
+            this.resource = resource;
+        }
+
+        @Override
+        public Reader read() {
+            try {
+                return new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public String getAbsolutePath() {
+            return resource.getDescription();
+        }
+
+        @Override
+        public String getAbsolutePathOnDisk() {
+            return resource.getDescription();
+        }
+
+        @Override
+        public String getFilename() {
+            return resource.getFilename();
+        }
+
+        @Override
+        public String getRelativePath() {
+            return resource.getFilename();
+        }
+    }
+}
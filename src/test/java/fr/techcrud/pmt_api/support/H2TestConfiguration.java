@@ -0,0 +1,23 @@
+package fr.techcrud.pmt_api.support;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.flyway.autoconfigure.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Profil "test" : l'application tourne sur H2 en mémoire (mode MySQL), schéma créé par Flyway au démarrage.
+ */
+@Configuration
+@Profile("test")
+public class H2TestConfiguration {
+
+    @Bean
+    public FlywayConfigurationCustomizer h2MigrationOverrides(
+            @Value("${migrations.location:classpath:db/migrations}") String migrationsLocation,
+            @Value("${migrations.h2-overrides:classpath:db/h2}") String overridesLocation) {
+        return configuration -> configuration.resourceProvider(
+                new H2MigrationResourceProvider(migrationsLocation, overridesLocation));
+    }
+}
@@ -0,0 +1,48 @@
+-- Équivalent H2 de V4 : la base de test part vide, il n'y a aucun UUID à convertir (pas de UUID_TO_BIN),
+-- les colonnes passent directement en BINARY(16). H2 n'accepte qu'un MODIFY par ALTER TABLE.
+
+ALTER TABLE project DROP FOREIGN KEY FKte6bms4bq1ixfhn024qtysmcg;
+ALTER TABLE project_member DROP FOREIGN KEY FK103dwxad12nbaxtmnwus4eft2;
+ALTER TABLE project_member DROP FOREIGN KEY FK6s59w9jalg0dperffu3ri91or;
+ALTER TABLE task DROP FOREIGN KEY FKsrodfgrekcvv8ksyslehr53j8;
+ALTER TABLE task DROP FOREIGN KEY FKk8qrwowg31kx7hp93sru1pdqa;
+ALTER TABLE task_history DROP FOREIGN KEY FKj304fjm2ls6x3srwt122l9tn2;
+ALTER TABLE task_history DROP FOREIGN KEY FKer57q2libi1e9njpj6faoxd2i;
+
+ALTER TABLE user MODIFY id BINARY(16) NOT NULL;
+
+ALTER TABLE project MODIFY id BINARY(16) NOT NULL;
+ALTER TABLE project MODIFY author_id BINARY(16) NOT NULL;
+
+ALTER TABLE project_member MODIFY id BINARY(16) NOT NULL;
+ALTER TABLE project_member MODIFY project_id BINARY(16) NOT NULL;
+ALTER TABLE project_member MODIFY user_id BINARY(16) NOT NULL;
+
+ALTER TABLE task MODIFY id BINARY(16) NOT NULL;
+ALTER TABLE task MODIFY project_id BINARY(16) NOT NULL;
+ALTER TABLE task MODIFY assignee_id BINARY(16) NOT NULL;
+
+ALTER TABLE task_history MODIFY id BINARY(16) NOT NULL;
+ALTER TABLE task_history MODIFY task_id BINARY(16) NOT NULL;
+ALTER TABLE task_history MODIFY modifier_id BINARY(16) NOT NULL;
+
+ALTER TABLE project
+    ADD CONSTRAINT FKte6bms4bq1ixfhn024qtysmcg FOREIGN KEY (author_id) REFERENCES user (id);
+
+ALTER TABLE project_member
+    ADD CONSTRAINT FK103dwxad12nbaxtmnwus4eft2 FOREIGN KEY (project_id) REFERENCES project (id);
+
+ALTER TABLE project_member
+    ADD CONSTRAINT FK6s59w9jalg0dperffu3ri91or FOREIGN KEY (user_id) REFERENCES user (id);
+
+ALTER TABLE task
+    ADD CONSTRAINT FKsrodfgrekcvv8ksyslehr53j8 FOREIGN KEY (assignee_id) REFERENCES user (id);
+
+ALTER TABLE task
+    ADD CONSTRAINT FKk8qrwowg31kx7hp93sru1pdqa FOREIGN KEY (project_id) REFERENCES project (id);
+
+ALTER TABLE task_history
+    ADD CONSTRAINT FKj304fjm2ls6x3srwt122l9tn2 FOREIGN KEY (modifier_id) REFERENCES user (id);
+
+ALTER TABLE task_history
+    ADD CONSTRAINT FKer57q2libi1e9njpj6faoxd2i FOREIGN KEY (task_id) REFERENCES task (id);
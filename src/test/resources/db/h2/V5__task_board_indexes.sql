@@ -0,0 +1,9 @@
+-- Équivalent H2 de V5 : base vide, les enums sont redéfinis directement (un MODIFY par ALTER TABLE)
+
+ALTER TABLE task MODIFY status ENUM ('TODO','IN_PROGRESS','OVERDUE','COMPLETED') NOT NULL;
+ALTER TABLE task MODIFY priority ENUM ('LOW','MEDIUM','HIGH') NOT NULL;
+
+CREATE INDEX idx_task_project_due ON task (project_id, due_date, id);
+CREATE INDEX idx_task_project_status_due ON task (project_id, status, due_date, id);
+CREATE INDEX idx_task_project_priority_due ON task (project_id, priority, due_date, id);
+CREATE INDEX idx_task_project_assignee_due ON task (project_id, assignee_id, due_date, id);
@@ -0,0 +1,9 @@
+-- Équivalent H2 de V6 : base vide, pas de reprise des compteurs (BIN_TO_UUID n'existe pas en H2)
+
+CREATE TABLE project_task_counter (
+    project_id BINARY(16) NOT NULL,
+    dimension VARCHAR(16) NOT NULL,
+    dimension_key VARCHAR(36) NOT NULL,
+    task_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (project_id, dimension, dimension_key)
+);
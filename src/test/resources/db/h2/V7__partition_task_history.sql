@@ -0,0 +1,9 @@
+-- Équivalent H2 de V7 : mêmes clés et index, sans partitions ni compression (non supportées par H2)
+
+ALTER TABLE task_history DROP FOREIGN KEY FKj304fjm2ls6x3srwt122l9tn2;
+ALTER TABLE task_history DROP FOREIGN KEY FKer57q2libi1e9njpj6faoxd2i;
+
+ALTER TABLE task_history DROP PRIMARY KEY;
+ALTER TABLE task_history ADD PRIMARY KEY (id, modified_at);
+
+CREATE INDEX idx_task_history_task_modified ON task_history (task_id, modified_at);